@@ -0,0 +1,155 @@
+import java_cup.runtime.DefaultSymbolFactory;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import java_cup.runtime.SymbolFactory;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Ejecuta el análisis léxico, sintáctico y semántico de un programa sin
+ * depender de la interfaz gráfica. El análisis semántico se hace después del
+ * parser, sobre el árbol sintáctico
+ */
+public class Analizador {
+
+    // Cada cuántos tokens se comprueba si se canceló el análisis
+    private static final int INTERVALO_CANCELACION = 1024;
+
+    private Analizador() {
+    }
+
+    /**
+     * Analiza un programa completo en una sola pasada: el parser consume los
+     * tokens del lexer y, a la vez, se cuentan los tokens y se recogen los
+     * errores léxicos
+     *
+     * Si el hilo es interrumpido, el análisis se detiene con
+     * CancellationException
+     *
+     * @param entrada Texto del programa
+     * @return Resultado del análisis
+     */
+    public static ResultadoAnalisis analizar(Reader entrada) {
+        Lexer lexer = new Lexer(entrada);
+        // Solo se necesitan los símbolos para el parser, no la lista de tokens
+        lexer.setRegistrarTokens(false);
+        ArrayList<Diagnostico> erroresLexicos = new ArrayList<>();
+        lexer.setReceptor(erroresLexicos::add);
+        return analizar(lexer, erroresLexicos);
+    }
+
+    /**
+     * Analiza un programa en UTF-8 leyendo directamente sus bytes con
+     * {@link EscanerBytes}, sin decodificar el texto. El resultado es el mismo
+     * que con {@link #analizar(Reader)}
+     *
+     * Si el hilo es interrumpido, el análisis se detiene con
+     * CancellationException
+     *
+     * @param entrada Bytes del programa (por ejemplo, un archivo mapeado)
+     * @return Resultado del análisis
+     */
+    public static ResultadoAnalisis analizar(ByteBuffer entrada) {
+        EscanerBytes escaner = new EscanerBytes(entrada);
+        ArrayList<Diagnostico> erroresLexicos = new ArrayList<>();
+        escaner.setReceptor(erroresLexicos::add);
+        return analizar(escaner, erroresLexicos);
+    }
+
+    /**
+     * Análisis en una sola pasada sobre un escáner que reporta sus errores
+     * léxicos en erroresLexicos
+     */
+    private static ResultadoAnalisis analizar(Scanner fuente, ArrayList<Diagnostico> erroresLexicos) {
+        int[] numTokens = { 0 };
+
+        // Escáner intermedio que cuenta los símbolos antes de entregarlos al parser
+        Scanner escaner = () -> {
+            Symbol s = fuente.next_token();
+            if (s.sym != sym.EOF) {
+                numTokens[0]++;
+                if (numTokens[0] % INTERVALO_CANCELACION == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Análisis cancelado");
+                }
+            }
+            return s;
+        };
+
+        parser parser = new parser(escaner, fabricaSimbolos());
+        ArrayList<Diagnostico> errores = parser.getDiagnosticos();
+        parsear(parser, errores);
+
+        // Si el parser se detuvo antes del final, terminar de escanear para
+        // reportar todos los errores léxicos (los dos escáneres repiten EOF)
+        try {
+            while (escaner.next_token().sym != sym.EOF) {
+                // Los errores llegan al receptor
+            }
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            erroresLexicos.add(new Diagnostico(Diagnostico.LEXICO, Diagnostico.ERROR_INTERNO, 0, 0, 0, e.getMessage()));
+        }
+
+        TablaSimbolo tablaSimbolo = parser.getTablaSimbolo();
+        new AnalizadorSemantico(tablaSimbolo).analizar(parser.getArbol(), errores::add);
+
+        return new ResultadoAnalisis(numTokens[0], erroresLexicos, errores, tablaSimbolo, parser.getArbol());
+    }
+
+    /**
+     * Analiza un programa cuyo análisis léxico ya está hecho: el parser
+     * consume los tokens del buffer sin volver a escanear el texto
+     *
+     * Si el hilo es interrumpido, el análisis se detiene con
+     * CancellationException
+     *
+     * @param tokens Tokens del programa (el buffer debe tener texto fuente)
+     * @return Resultado del análisis
+     */
+    public static ResultadoAnalisis analizar(BufferTokens tokens) {
+        // Los errores léxicos son los tokens que llegaron al parser como ERROR
+        ArrayList<Diagnostico> erroresLexicos = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.getSimbolo(i) == sym.ERROR) {
+                erroresLexicos.add(tokens.getDiagnostico(i));
+            }
+        }
+
+        parser parser = new parser(new EscanerTokens(tokens), fabricaSimbolos());
+        ArrayList<Diagnostico> errores = parser.getDiagnosticos();
+        parsear(parser, errores);
+
+        TablaSimbolo tablaSimbolo = parser.getTablaSimbolo();
+        new AnalizadorSemantico(tablaSimbolo).analizar(parser.getArbol(), errores::add);
+
+        return new ResultadoAnalisis(tokens.size(), erroresLexicos, errores, tablaSimbolo, parser.getArbol());
+    }
+
+    /**
+     * Fábrica de símbolos para crear el parser. Es la misma que usa
+     * parser(Scanner), pero ese constructor está obsoleto
+     *
+     * @return Fábrica de símbolos por defecto de CUP
+     */
+    @SuppressWarnings("deprecation") // CUP 0.11b no tiene otra fábrica equivalente sin marcar como obsoleta
+    static SymbolFactory fabricaSimbolos() {
+        return new DefaultSymbolFactory();
+    }
+
+    /**
+     * Ejecuta el parser; un fallo inesperado se añade como error
+     */
+    private static void parsear(parser parser, ArrayList<Diagnostico> errores) {
+        try {
+            parser.parse();
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            errores.add(new Diagnostico(Diagnostico.SINTACTICO, Diagnostico.ERROR_INTERNO, 0, 0, 0, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,291 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Modo de línea de comandos que analiza todos los programas (.txt) de uno o
+ * varios directorios sin abrir la interfaz gráfica. Los archivos se leen como
+ * UTF-8; las secuencias no válidas se reemplazan por U+FFFD, que el lexer
+ * reporta como símbolo no reconocido
+ */
+public class AnalizadorBatch {
+
+    /**
+     * Resultado del análisis de un archivo
+     */
+    private static class ResultadoArchivo {
+        private final Path archivo;
+        private final ResultadoAnalisis resultado; // null si no se pudo analizar
+        private final String fallo; // Motivo por el que no se pudo analizar
+
+        ResultadoArchivo(Path archivo, ResultadoAnalisis resultado, String fallo) {
+            this.archivo = archivo;
+            this.resultado = resultado;
+            this.fallo = fallo;
+        }
+    }
+
+    private static final String USO = "Uso: AnalizadorBatch [--hilos N] [--cache DIR] directorio...";
+
+    // Máximo de hilos que admite Executors.newWorkStealingPool
+    private static final int MAX_HILOS = 0x7fff;
+
+    // Archivos en análisis o esperando a ser impresos, por cada hilo. Limita
+    // la memoria: los resultados se descartan en cuanto se imprimen
+    private static final int TAREAS_POR_HILO = 4;
+
+    // Los archivos mayores que este tamaño (en bytes) se leen mapeados en memoria
+    private static final long TAMANO_MAPEADO = 16L << 20;
+
+    private final int numHilos;
+    private final PrintStream salida;
+
+    // Resultados guardados entre ejecuciones (null sin --cache)
+    private final CacheAnalisis cache;
+
+    /**
+     * Constructor del analizador por lotes
+     *
+     * @param numHilos Número de hilos de trabajo
+     * @param salida   Flujo donde se escriben los diagnósticos y el resumen
+     */
+    public AnalizadorBatch(int numHilos, PrintStream salida) {
+        this(numHilos, salida, null);
+    }
+
+    /**
+     * Constructor del analizador por lotes con caché en disco
+     *
+     * @param numHilos Número de hilos de trabajo
+     * @param salida   Flujo donde se escriben los diagnósticos y el resumen
+     * @param disco    Caché en disco compartida entre ejecuciones, o null para
+     *                 analizar todos los archivos sin caché
+     */
+    public AnalizadorBatch(int numHilos, PrintStream salida, CacheDisco disco) {
+        this.numHilos = numHilos;
+        this.salida = salida;
+        // Solo se usan los resultados, así que no se guardan tokens
+        this.cache = disco != null ? new CacheAnalisis(1024, 64_000_000, disco, false) : null;
+    }
+
+    /**
+     * Busca recursivamente los programas (.txt) de un directorio
+     *
+     * @param raiz Directorio raíz (o un archivo suelto)
+     * @return Lista ordenada de archivos encontrados
+     * @throws IOException Si no se puede recorrer el directorio
+     */
+    public static List<Path> buscarProgramas(Path raiz) throws IOException {
+        try (Stream<Path> rutas = Files.walk(raiz)) {
+            return rutas
+                    .filter(Files::isRegularFile)
+                    .filter(p -> p.getFileName().toString().toLowerCase().endsWith(".txt"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Analiza una lista de archivos en paralelo e imprime los diagnósticos de
+     * cada uno (en el orden de la lista) y un resumen final
+     *
+     * @param archivos Archivos a analizar
+     * @return Número de archivos con errores
+     * @throws InterruptedException Si se interrumpe la espera de resultados
+     */
+    public int analizarArchivos(List<Path> archivos) throws InterruptedException {
+        // Pool con robo de tareas: los hilos libres toman archivos pendientes de
+        // los demás, así los archivos grandes no dejan núcleos ociosos
+        ExecutorService pool = Executors.newWorkStealingPool(numHilos);
+        long inicio = System.nanoTime();
+
+        // Los resultados se imprimen en el orden de la lista, así que se van
+        // enviando archivos a medida que se imprimen los anteriores
+        ArrayDeque<Future<ResultadoArchivo>> pendientes = new ArrayDeque<>();
+        int maxPendientes = numHilos * TAREAS_POR_HILO;
+        int siguiente = 0;
+
+        long totalTokens = 0;
+        int archivosConErrores = 0;
+        int totalErrores = 0;
+
+        try {
+            for (Path archivo : archivos) {
+                while (siguiente < archivos.size() && pendientes.size() < maxPendientes) {
+                    Path enviado = archivos.get(siguiente++);
+                    pendientes.add(pool.submit(() -> analizarArchivo(enviado)));
+                }
+
+                ResultadoArchivo r;
+                try {
+                    r = pendientes.poll().get();
+                } catch (ExecutionException e) {
+                    // Un fallo inesperado solo afecta a su archivo
+                    r = new ResultadoArchivo(archivo, null, "error inesperado durante el análisis ("
+                            + e.getCause() + ")");
+                }
+
+                if (r.resultado == null) {
+                    archivosConErrores++;
+                    salida.println(r.archivo + ": " + r.fallo);
+                    continue;
+                }
+
+                totalTokens += r.resultado.getNumTokens();
+                int numErrores = r.resultado.getNumErrores();
+                totalErrores += numErrores;
+
+                if (numErrores == 0) {
+                    salida.println(r.archivo + ": " + r.resultado.getNumTokens() + " tokens, sin errores");
+                } else {
+                    archivosConErrores++;
+                    salida.println(r.archivo + ": " + r.resultado.getNumTokens() + " tokens, "
+                            + numErrores + " errores");
+                    for (Diagnostico error : r.resultado.getErroresLexicos()) {
+                        salida.println("    " + error.getMensaje());
+                    }
+                    for (Diagnostico error : r.resultado.getErrores()) {
+                        salida.println("    " + error.getMensaje());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double segundos = Math.max((System.nanoTime() - inicio) / 1e9, 1e-9);
+
+        salida.println("===== RESUMEN =====");
+        salida.println("Archivos analizados: " + archivos.size() + " (" + archivosConErrores + " con errores)");
+        salida.println("Errores encontrados: " + totalErrores);
+        salida.println("Tokens: " + totalTokens);
+        salida.printf("Tiempo: %.3f s con %d hilos%n", segundos, numHilos);
+        salida.printf("Rendimiento: %.1f archivos/s, %.0f tokens/s%n",
+                archivos.size() / segundos, totalTokens / segundos);
+        if (cache != null) {
+            salida.println(cache);
+        }
+
+        return archivosConErrores;
+    }
+
+    /**
+     * Analiza un único archivo
+     *
+     * @param archivo Archivo a analizar
+     * @return Resultado del análisis del archivo
+     */
+    private ResultadoArchivo analizarArchivo(Path archivo) {
+        try {
+            // Un archivo grande se analiza sin cargar su texto en el heap; no pasa
+            // por la caché, que necesita el texto completo. Si cabe en un solo
+            // mapeo se escanean sus bytes directamente
+            long tamano = Files.size(archivo);
+            if (tamano > TAMANO_MAPEADO && tamano <= Integer.MAX_VALUE) {
+                try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+                    ByteBuffer bytes = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+                    return new ResultadoArchivo(archivo, Analizador.analizar(bytes), null);
+                }
+            }
+            if (tamano > TAMANO_MAPEADO) {
+                try (LectorMapeado lector = new LectorMapeado(archivo)) {
+                    return new ResultadoArchivo(archivo, Analizador.analizar(lector), null);
+                }
+            }
+
+            // Los bytes se escanean sin decodificar el texto; como en los archivos
+            // grandes (y en el editor), las secuencias UTF-8 no válidas se leen
+            // como U+FFFD en lugar de impedir el análisis
+            byte[] bytes = Files.readAllBytes(archivo);
+            ResultadoAnalisis resultado = cache != null ? cache.analizar(bytes)
+                    : Analizador.analizar(ByteBuffer.wrap(bytes));
+            return new ResultadoArchivo(archivo, resultado, null);
+        } catch (IOException e) {
+            return new ResultadoArchivo(archivo, null, "no se pudo leer (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Punto de entrada del modo por lotes
+     *
+     * Uso: AnalizadorBatch [--hilos N] [--cache DIR] directorio...
+     *
+     * Con --cache los resultados se guardan en DIR y se reutilizan en las
+     * siguientes ejecuciones para los archivos que no cambiaron.
+     *
+     * El código de salida es 0 si ningún archivo tiene errores, 1 si alguno
+     * los tiene y 2 si los argumentos no son válidos
+     */
+    public static void main(String[] args) {
+        int numHilos = Runtime.getRuntime().availableProcessors();
+        Path directorioCache = null;
+        List<Path> raices = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--hilos":
+                        long hilos = Argumentos.leerNumero(args, ++i, "--hilos");
+                        // Límite de paralelismo del pool con robo de tareas
+                        if (hilos < 1 || hilos > MAX_HILOS) {
+                            throw new IllegalArgumentException("Número de hilos no válido (entre 1 y " + MAX_HILOS
+                                    + "): " + args[i]);
+                        }
+                        numHilos = (int) hilos;
+                        break;
+                    case "--cache":
+                        if (i + 1 >= args.length) {
+                            throw new IllegalArgumentException("Falta el valor de --cache");
+                        }
+                        directorioCache = Paths.get(args[++i]);
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                        }
+                        raices.add(Paths.get(args[i]));
+                        break;
+                }
+            }
+            if (raices.isEmpty()) {
+                throw new IllegalArgumentException("Falta al menos un directorio");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+
+        try {
+            List<Path> archivos = new ArrayList<>();
+            for (Path raiz : raices) {
+                archivos.addAll(buscarProgramas(raiz));
+            }
+
+            CacheDisco disco = directorioCache != null ? new CacheDisco(directorioCache) : null;
+            AnalizadorBatch batch = new AnalizadorBatch(numHilos, System.out, disco);
+            int archivosConErrores = batch.analizarArchivos(archivos);
+            System.exit(archivosConErrores == 0 ? 0 : 1);
+        } catch (IOException e) {
+            System.err.println("Error al recorrer los directorios: " + e.getMessage());
+            System.exit(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Análisis semántico de un programa ya parseado: valida el argumento de cada
+ * método contra el rango que indica la tabla de símbolos.
+ *
+ * Se ejecuta sobre el árbol, después del parser, así que se puede omitir o
+ * repartir por rangos de nodos. Los rangos se copian una vez a arreglos
+ * indexados por el terminal del método (constante de sym).
+ */
+public class AnalizadorSemantico {
+
+    private final boolean[] conRango; // true si el método recibe un valor a validar
+    private final int[] minimos;
+    private final int[] maximos;
+
+    /**
+     * Constructor de la clase AnalizadorSemantico
+     *
+     * @param tablaSimbolo Tabla con los métodos predefinidos y sus rangos
+     */
+    public AnalizadorSemantico(TablaSimbolo tablaSimbolo) {
+        int numTerminales = sym.terminalNames.length;
+        conRango = new boolean[numTerminales];
+        minimos = new int[numTerminales];
+        maximos = new int[numTerminales];
+
+        for (int terminal = 0; terminal < numTerminales; terminal++) {
+            TablaSimbolo.SimboloInfo metodo = tablaSimbolo.getMetodoInfo(terminal);
+            if (metodo != null && metodo.getNumParametros() > 0) {
+                conRango[terminal] = true;
+                minimos[terminal] = metodo.getMinValor();
+                maximos[terminal] = metodo.getMaxValor();
+            }
+        }
+    }
+
+    /**
+     * Valida todos los nodos del árbol
+     *
+     * @param arbol    Árbol del programa
+     * @param receptor Destino de los errores encontrados
+     */
+    public void analizar(Arbol arbol, ReceptorDiagnosticos receptor) {
+        analizar(arbol, 0, arbol.getNumNodos(), receptor);
+    }
+
+    /**
+     * Valida los nodos de un rango del árbol. Cada nodo se valida por separado,
+     * así que rangos distintos pueden analizarse en paralelo
+     *
+     * @param arbol    Árbol del programa
+     * @param desde    Primer nodo a validar
+     * @param hasta    Nodo siguiente al último a validar
+     * @param receptor Destino de los errores encontrados
+     */
+    public void analizar(Arbol arbol, int desde, int hasta, ReceptorDiagnosticos receptor) {
+        for (int nodo = desde; nodo < hasta; nodo++) {
+            int metodo = arbol.getMetodo(nodo);
+            if (!conRango[metodo] || !arbol.tieneValor(nodo)) {
+                continue;
+            }
+
+            int valor = arbol.getValor(nodo);
+            if (valor >= minimos[metodo] && valor <= maximos[metodo]) {
+                continue;
+            }
+
+            long posicion = arbol.getPosicionValor(nodo);
+            if (metodo == sym.REPETIR) {
+                receptor.reportar(new Diagnostico(Diagnostico.SEMANTICO, Diagnostico.ERROR,
+                        Diagnostico.REPETICIONES_NO_POSITIVAS, Arbol.linea(posicion), Arbol.columna(posicion), 0,
+                        null, valor, 0, 0));
+            } else {
+                receptor.reportar(new Diagnostico(Diagnostico.SEMANTICO, Diagnostico.ERROR,
+                        Diagnostico.VALOR_FUERA_DE_RANGO, Arbol.linea(posicion), Arbol.columna(posicion), 0,
+                        Arbol.nombreMetodo(metodo), valor, minimos[metodo], maximos[metodo]));
+            }
+        }
+    }
+}
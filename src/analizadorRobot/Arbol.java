@@ -0,0 +1,242 @@
+import java.util.Arrays;
+
+/**
+ * Árbol sintáctico compacto e inmutable de un programa.
+ *
+ * Los nodos se guardan en preorden en arreglos paralelos: el tipo de nodo y
+ * el método son enteros pequeños, las posiciones van empaquetadas en un long
+ * (línea en los 32 bits altos, columna en los bajos) y el cuerpo de un bloque
+ * repetir es el rango de nodos que le sigue, hasta {@link #getFin(int)}. Lo
+ * construye el parser mediante {@link ConstructorArbol}.
+ */
+public class Arbol {
+
+    // Tipos de nodo
+    public static final byte DECLARACION = 0; // Robot r1
+    public static final byte ASIGNACION = 1; // r1.base = 90
+    public static final byte LLAMADA = 2; // r1.base(90), r1.iniciar
+    public static final byte REPETICION = 3; // r1.repetir(n) { ... }
+
+    // Valor de los nodos que no tienen argumento
+    public static final int SIN_VALOR = Integer.MIN_VALUE;
+
+    private final byte[] tipos;
+    private final byte[] metodos; // Terminal del método (constante de sym), 0 en declaraciones
+    private final int[] robots; // Id del nombre del robot (ver TablaNombres), -1 si no se reconoció
+    private final int[] valores; // Argumento o valor asignado (SIN_VALOR si no tiene)
+    private final long[] posiciones; // Posición del nombre del robot
+    private final long[] posicionesMetodo; // Posición del nombre del método
+    private final long[] posicionesValor; // Posición del argumento
+    private final int[] fines; // Nodo siguiente al último del subárbol
+    private final int numNodos;
+    private final String[] nombres; // Nombres de robot, indexados por su id (null si no aparece)
+
+    Arbol(byte[] tipos, byte[] metodos, int[] robots, int[] valores, long[] posiciones, long[] posicionesMetodo,
+            long[] posicionesValor, int[] fines, int numNodos, String[] nombres) {
+        this.tipos = tipos;
+        this.metodos = metodos;
+        this.robots = robots;
+        this.valores = valores;
+        this.posiciones = posiciones;
+        this.posicionesMetodo = posicionesMetodo;
+        this.posicionesValor = posicionesValor;
+        this.fines = fines;
+        this.numNodos = numNodos;
+        this.nombres = nombres;
+    }
+
+    /**
+     * Empaqueta línea y columna en un long
+     *
+     * @param linea   Línea (comenzando en 1)
+     * @param columna Columna (comenzando en 1)
+     * @return Posición empaquetada
+     */
+    public static long posicion(int linea, int columna) {
+        return ((long) linea << 32) | (columna & 0xFFFFFFFFL);
+    }
+
+    public static int linea(long posicion) {
+        return (int) (posicion >>> 32);
+    }
+
+    public static int columna(long posicion) {
+        return (int) posicion;
+    }
+
+    /**
+     * Nombre de un método a partir de su terminal
+     *
+     * @param metodo Constante de sym del método
+     * @return Nombre del método en el código, o null si no es un método
+     */
+    public static String nombreMetodo(int metodo) {
+        switch (metodo) {
+            case sym.BASE:
+                return "base";
+            case sym.CUERPO:
+                return "cuerpo";
+            case sym.GARRA:
+                return "garra";
+            case sym.VELOCIDAD:
+                return "velocidad";
+            case sym.ABRIR_GARRA:
+                return "abrirGarra";
+            case sym.CERRAR_GARRA:
+                return "cerrarGarra";
+            case sym.INICIAR:
+                return "iniciar";
+            case sym.DETENER:
+                return "detener";
+            case sym.REPETIR:
+                return "repetir";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Número de nodos del árbol
+     *
+     * @return Cantidad de nodos
+     */
+    public int getNumNodos() {
+        return numNodos;
+    }
+
+    // Getters por índice de nodo
+    public byte getTipo(int nodo) {
+        return tipos[nodo];
+    }
+
+    public int getMetodo(int nodo) {
+        return metodos[nodo];
+    }
+
+    public String getNombreMetodo(int nodo) {
+        return nombreMetodo(metodos[nodo]);
+    }
+
+    public int getIdRobot(int nodo) {
+        return robots[nodo];
+    }
+
+    public String getRobot(int nodo) {
+        return robots[nodo] >= 0 ? nombres[robots[nodo]] : null;
+    }
+
+    public int getValor(int nodo) {
+        return valores[nodo];
+    }
+
+    public boolean tieneValor(int nodo) {
+        return valores[nodo] != SIN_VALOR;
+    }
+
+    public long getPosicion(int nodo) {
+        return posiciones[nodo];
+    }
+
+    public int getLinea(int nodo) {
+        return linea(posiciones[nodo]);
+    }
+
+    public int getColumna(int nodo) {
+        return columna(posiciones[nodo]);
+    }
+
+    public long getPosicionMetodo(int nodo) {
+        return posicionesMetodo[nodo];
+    }
+
+    public long getPosicionValor(int nodo) {
+        return posicionesValor[nodo];
+    }
+
+    /**
+     * Nodo siguiente al último del subárbol; el cuerpo de una repetición son
+     * los nodos desde nodo + 1 hasta este índice
+     *
+     * @param nodo Índice del nodo
+     * @return Fin (exclusivo) del subárbol
+     */
+    public int getFin(int nodo) {
+        return fines[nodo];
+    }
+
+    /**
+     * Límite de los ids de nombre del árbol (los ids van de 0 a este valor
+     * menos 1)
+     *
+     * @return Cantidad de ids
+     */
+    public int getNumNombres() {
+        return nombres.length;
+    }
+
+    /**
+     * Nombre de robot a partir de su id
+     *
+     * @param id Id del nombre
+     * @return Nombre del robot, o null si ningún nodo lo usa
+     */
+    public String getNombre(int id) {
+        return nombres[id];
+    }
+
+    /**
+     * Recorre todo el árbol en el orden del código
+     *
+     * @param visitante Visitante que recibe cada nodo
+     */
+    public void recorrer(VisitanteArbol visitante) {
+        recorrer(visitante, 0, numNodos);
+    }
+
+    /**
+     * Recorre un rango de nodos hermanos (por ejemplo, el cuerpo de una
+     * repetición) en el orden del código
+     *
+     * @param visitante Visitante que recibe cada nodo
+     * @param desde     Primer nodo del rango
+     * @param hasta     Nodo siguiente al último del rango
+     */
+    public void recorrer(VisitanteArbol visitante, int desde, int hasta) {
+        // Repeticiones abiertas, para avisar al visitante cuando terminan
+        int[] abiertas = new int[8];
+        int numAbiertas = 0;
+
+        int nodo = desde;
+        while (true) {
+            // Cerrar las repeticiones cuyo cuerpo ya terminó
+            while (numAbiertas > 0 && nodo >= fines[abiertas[numAbiertas - 1]]) {
+                visitante.salirRepeticion(this, abiertas[--numAbiertas]);
+            }
+            if (nodo >= hasta) {
+                break;
+            }
+
+            switch (tipos[nodo]) {
+                case DECLARACION:
+                    visitante.visitarDeclaracion(this, nodo++);
+                    break;
+                case ASIGNACION:
+                    visitante.visitarAsignacion(this, nodo++);
+                    break;
+                case LLAMADA:
+                    visitante.visitarLlamada(this, nodo++);
+                    break;
+                default:
+                    if (visitante.entrarRepeticion(this, nodo)) {
+                        if (numAbiertas == abiertas.length) {
+                            abiertas = Arrays.copyOf(abiertas, numAbiertas * 2);
+                        }
+                        abiertas[numAbiertas++] = nodo++;
+                    } else {
+                        nodo = fines[nodo];
+                    }
+                    break;
+            }
+        }
+    }
+}
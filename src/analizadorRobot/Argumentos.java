@@ -0,0 +1,90 @@
+/**
+ * Lectura de los argumentos numéricos de los programas de línea de comandos
+ * (el generador de programas y las mediciones)
+ */
+public final class Argumentos {
+
+    private Argumentos() {
+    }
+
+    /**
+     * Lee un argumento numérico no negativo, con sufijo K, M o G opcional
+     * (potencias de 2)
+     *
+     * @param args   Argumentos
+     * @param i      Índice del valor
+     * @param opcion Nombre de la opción (para el mensaje de error)
+     * @return Valor del argumento
+     * @throws IllegalArgumentException Si falta el valor, no es válido, es
+     *                                  negativo o no cabe en un long
+     */
+    public static long leerNumero(String[] args, int i, String opcion) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + opcion);
+        }
+        String valor = args[i].toUpperCase();
+        long multiplicador = 1;
+        if (valor.endsWith("K")) {
+            multiplicador = 1L << 10;
+        } else if (valor.endsWith("M")) {
+            multiplicador = 1L << 20;
+        } else if (valor.endsWith("G")) {
+            multiplicador = 1L << 30;
+        }
+        if (multiplicador > 1) {
+            valor = valor.substring(0, valor.length() - 1);
+        }
+        try {
+            long numero = Long.parseLong(valor);
+            if (numero < 0) {
+                throw new NumberFormatException();
+            }
+            return Math.multiplyExact(numero, multiplicador);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Valor no válido para " + opcion + ": " + args[i]);
+        }
+    }
+
+    /**
+     * Lee un argumento numérico dentro de un rango
+     *
+     * @param args   Argumentos
+     * @param i      Índice del valor
+     * @param opcion Nombre de la opción (para el mensaje de error)
+     * @param minimo Valor mínimo permitido
+     * @param maximo Valor máximo permitido
+     * @return Valor del argumento
+     * @throws IllegalArgumentException Si falta el valor o no es válido
+     */
+    public static long leerNumero(String[] args, int i, String opcion, long minimo, long maximo) {
+        long numero = leerNumero(args, i, opcion);
+        if (numero < minimo || numero > maximo) {
+            throw new IllegalArgumentException("Valor no válido para " + opcion + " (entre " + minimo + " y "
+                    + maximo + "): " + args[i]);
+        }
+        return numero;
+    }
+
+    /**
+     * Lee una proporción entre 0 y 1
+     *
+     * @param args Argumentos
+     * @param i    Índice del valor (la opción está en i - 1)
+     * @return Valor del argumento
+     * @throws IllegalArgumentException Si falta el valor o no es válido
+     */
+    public static double leerProporcion(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + args[i - 1]);
+        }
+        try {
+            double proporcion = Double.parseDouble(args[i]);
+            if (proporcion < 0 || proporcion > 1) {
+                throw new NumberFormatException();
+            }
+            return proporcion;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Proporción no válida (entre 0 y 1): " + args[i]);
+        }
+    }
+}
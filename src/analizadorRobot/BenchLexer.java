@@ -0,0 +1,263 @@
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * Mide el rendimiento de Lexer.next_token sobre programas generados con
+ * distintas formas de entrada, para comparar cambios en el lexer contra una
+ * línea base reproducible (la misma semilla genera siempre el mismo texto).
+ *
+ * Por cada forma imprime MB/s, tokens/s y bytes reservados por token. Con
+ * --bytes se mide {@link EscanerBytes} sobre el texto ya codificado en UTF-8
+ * en lugar de Lexer.
+ *
+ * Uso: BenchLexer [--tamano BYTES] [--iteraciones N] [--calentamiento N]
+ * [--semilla N] [--buffer] [--bytes] [forma...]
+ */
+public class BenchLexer {
+
+    /**
+     * Formas de entrada generadas
+     */
+    public enum Forma {
+        DECLARACIONES, // Muchas declaraciones "Robot rN"
+        LLAMADAS, // Llamadas y asignaciones con punto (estado AFTER_DOT)
+        NUMEROS, // Argumentos numéricos largos, enteros y decimales
+        ANIDADO, // Bloques repetir anidados a gran profundidad
+        ERRORES // Caracteres no reconocidos mezclados con código válido
+    }
+
+    private static final String[] METODOS_VALOR = { "base", "cuerpo", "garra", "velocidad" };
+    private static final String[] METODOS_SIN_VALOR = { "iniciar", "detener", "abrirGarra", "cerrarGarra" };
+    private static final String[] SIMBOLOS_ERROR = { "@", "#", "$", "%", "&", "ñ", "¿", "€", "?", "!" };
+
+    private static final String USO = "Uso: BenchLexer [--tamano BYTES] [--iteraciones N] [--calentamiento N]"
+            + " [--semilla N] [--buffer] [--bytes] [forma...]";
+
+    // Profundidad de los bloques repetir de la forma ANIDADO
+    private static final int PROFUNDIDAD_ANIDADO = 64;
+
+    /**
+     * Genera un programa de una forma dada
+     *
+     * @param forma   Forma de la entrada
+     * @param tamano  Tamaño aproximado en caracteres
+     * @param semilla Semilla del generador aleatorio
+     * @return Texto del programa
+     */
+    public static String generar(Forma forma, int tamano, long semilla) {
+        Random aleatorio = new Random(semilla);
+        StringBuilder sb = new StringBuilder(tamano + 256);
+        int profundidad = 0;
+
+        while (sb.length() < tamano) {
+            String robot = "r" + aleatorio.nextInt(100);
+            switch (forma) {
+                case DECLARACIONES:
+                    sb.append("Robot ").append(robot).append(aleatorio.nextBoolean() ? "_brazo" : "").append('\n');
+                    break;
+                case LLAMADAS:
+                    lineaLlamada(sb, aleatorio, robot);
+                    break;
+                case NUMEROS:
+                    if (aleatorio.nextBoolean()) {
+                        sb.append(robot).append(".base(").append(aleatorio.nextInt(1_000_000_000)).append(")\n");
+                    } else {
+                        sb.append(robot).append(".velocidad = ").append(aleatorio.nextInt(100_000)).append('.')
+                                .append(aleatorio.nextInt(100_000)).append('\n');
+                    }
+                    break;
+                case ANIDADO:
+                    if (profundidad < PROFUNDIDAD_ANIDADO && aleatorio.nextInt(4) != 0) {
+                        indentar(sb, profundidad);
+                        sb.append(robot).append(".repetir(").append(1 + aleatorio.nextInt(9)).append(") {\n");
+                        profundidad++;
+                    } else if (profundidad > 0 && aleatorio.nextInt(3) == 0) {
+                        profundidad--;
+                        indentar(sb, profundidad);
+                        sb.append("}\n");
+                    } else {
+                        indentar(sb, profundidad);
+                        lineaLlamada(sb, aleatorio, robot);
+                    }
+                    break;
+                default:
+                    if (aleatorio.nextInt(3) == 0) {
+                        lineaLlamada(sb, aleatorio, robot);
+                    } else if (aleatorio.nextBoolean()) {
+                        // Error después de punto
+                        sb.append(robot).append('.').append(SIMBOLOS_ERROR[aleatorio.nextInt(SIMBOLOS_ERROR.length)])
+                                .append('\n');
+                    } else {
+                        for (int i = 0; i < 8; i++) {
+                            sb.append(SIMBOLOS_ERROR[aleatorio.nextInt(SIMBOLOS_ERROR.length)]);
+                        }
+                        sb.append('\n');
+                    }
+                    break;
+            }
+        }
+
+        // Cerrar los bloques que quedaron abiertos
+        while (profundidad > 0) {
+            indentar(sb, --profundidad);
+            sb.append("}\n");
+        }
+        return sb.toString();
+    }
+
+    private static void lineaLlamada(StringBuilder sb, Random aleatorio, String robot) {
+        switch (aleatorio.nextInt(4)) {
+            case 0:
+                sb.append(robot).append('.').append(METODOS_VALOR[aleatorio.nextInt(METODOS_VALOR.length)])
+                        .append('(').append(aleatorio.nextInt(180)).append(")\n");
+                break;
+            case 1:
+                sb.append(robot).append('.').append(METODOS_VALOR[aleatorio.nextInt(METODOS_VALOR.length)])
+                        .append(" = ").append(aleatorio.nextInt(180)).append('\n');
+                break;
+            case 2:
+                sb.append(robot).append('.').append(METODOS_SIN_VALOR[aleatorio.nextInt(METODOS_SIN_VALOR.length)])
+                        .append('\n');
+                break;
+            default:
+                // Salto de línea después del punto, que mantiene el estado AFTER_DOT
+                sb.append(robot).append(".\n").append(METODOS_SIN_VALOR[aleatorio.nextInt(METODOS_SIN_VALOR.length)])
+                        .append("()\n");
+                break;
+        }
+    }
+
+    private static void indentar(StringBuilder sb, int profundidad) {
+        for (int i = 0; i < profundidad; i++) {
+            sb.append("  ");
+        }
+    }
+
+    /**
+     * Escanea un texto completo y cuenta sus tokens
+     *
+     * @param texto  Texto del programa
+     * @param buffer true para guardar los tokens en el buffer (como el editor),
+     *               false para producir solo los símbolos (como el parser)
+     * @return Número de tokens
+     * @throws Exception Si el lexer falla
+     */
+    public static long escanear(String texto, boolean buffer) throws Exception {
+        Lexer lexer;
+        if (buffer) {
+            lexer = new Lexer(texto);
+        } else {
+            lexer = new Lexer(new StringReader(texto));
+            lexer.setRegistrarTokens(false);
+        }
+        long numTokens = 0;
+        for (Symbol s = lexer.next_token(); s.sym != sym.EOF; s = lexer.next_token()) {
+            numTokens++;
+        }
+        return numTokens;
+    }
+
+    /**
+     * Escanea los bytes UTF-8 de un programa con EscanerBytes y cuenta sus
+     * tokens
+     *
+     * @param bytes  Texto del programa en UTF-8
+     * @param buffer true para guardar los tokens en un buffer
+     * @return Número de tokens
+     */
+    public static long escanear(byte[] bytes, boolean buffer) {
+        EscanerBytes escaner = new EscanerBytes(bytes);
+        if (buffer) {
+            escaner.setBuffer(new BufferTokens());
+        }
+        long numTokens = 0;
+        for (Symbol s = escaner.next_token(); s.sym != sym.EOF; s = escaner.next_token()) {
+            numTokens++;
+        }
+        return numTokens;
+    }
+
+    private static Forma leerForma(String argumento) {
+        if (!argumento.startsWith("--")) {
+            for (Forma forma : Forma.values()) {
+                if (forma.name().equalsIgnoreCase(argumento)) {
+                    return forma;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Opción o forma desconocida: " + argumento);
+    }
+
+    /**
+     * Punto de entrada de la medición
+     */
+    public static void main(String[] args) throws Exception {
+        long tamano = 4L << 20;
+        int iteraciones = 10;
+        int calentamiento = 5;
+        long semilla = 42;
+        boolean buffer = false;
+        boolean bytes = false;
+        List<Forma> formas = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--tamano":
+                        tamano = Argumentos.leerNumero(args, ++i, "--tamano", 1, Integer.MAX_VALUE);
+                        break;
+                    case "--iteraciones":
+                        iteraciones = (int) Argumentos.leerNumero(args, ++i, "--iteraciones", 1, Integer.MAX_VALUE);
+                        break;
+                    case "--calentamiento":
+                        calentamiento = (int) Argumentos.leerNumero(args, ++i, "--calentamiento", 0,
+                                Integer.MAX_VALUE);
+                        break;
+                    case "--semilla":
+                        semilla = Argumentos.leerNumero(args, ++i, "--semilla");
+                        break;
+                    case "--buffer":
+                        buffer = true;
+                        break;
+                    case "--bytes":
+                        bytes = true;
+                        break;
+                    default:
+                        formas.add(leerForma(args[i]));
+                        break;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+        if (formas.isEmpty()) {
+            formas.addAll(List.of(Forma.values()));
+        }
+
+        System.out.printf("%s (%s), %d iteraciones, %d de calentamiento%n", bytes ? "EscanerBytes" : "Lexer",
+                buffer ? "con buffer de tokens" : "solo símbolos", iteraciones, calentamiento);
+        System.out.printf("%-14s %10s %10s %12s %14s %12s%n", "forma", "MB", "ms", "MB/s", "tokens/s", "bytes/token");
+
+        for (Forma forma : formas) {
+            String texto = generar(forma, (int) Math.min(tamano, Integer.MAX_VALUE - 256), semilla);
+            byte[] utf8 = texto.getBytes(StandardCharsets.UTF_8);
+            double megas = utf8.length / 1e6;
+            boolean conBuffer = buffer;
+
+            Benchmark.Medicion m = Benchmark.medir(forma.name(), calentamiento, iteraciones,
+                    bytes ? () -> escanear(utf8, conBuffer) : () -> escanear(texto, conBuffer));
+            double segundos = m.getSegundos();
+            double bytesPorToken = m.getBytesPorIteracion() / m.getUnidades();
+            System.out.printf(Locale.ROOT, "%-14s %10.2f %10.2f %12.1f %14.0f %12.1f%n", forma.name().toLowerCase(),
+                    megas, segundos * 1e3, megas / segundos, m.getUnidades() / segundos, bytesPorToken);
+        }
+    }
+}
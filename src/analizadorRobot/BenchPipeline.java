@@ -0,0 +1,229 @@
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Stack;
+
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import java_cup.runtime.lr_parser;
+
+/**
+ * Mide el análisis completo (léxico, sintáctico y semántico) sobre programas
+ * generados de distintos tamaños, para obtener curvas de escalado.
+ *
+ * Por cada tamaño se generan dos programas: uno válido (con algunos valores
+ * fuera de rango) y otro con muchos errores sintácticos, que pasan por la
+ * recuperación de errores del parser (instruccion ::= error). De cada uno se
+ * mide por separado el lexer, el parser, el análisis semántico y el análisis
+ * completo. El tiempo del parser se reparte además entre las tablas de CUP,
+ * las acciones de la gramática (tabla de símbolos y árbol) y la recuperación
+ * de errores, con una pasada aparte de un parser instrumentado.
+ *
+ * Uso: BenchPipeline [--iteraciones N] [--calentamiento N] [--semilla N]
+ * [tamaño...] (por ejemplo 1K 1M 100M)
+ */
+public class BenchPipeline {
+
+    private static final String USO = "Uso: BenchPipeline [--iteraciones N] [--calentamiento N] [--semilla N]"
+            + " [tamaño...]";
+
+    private static final String[] TAMANOS_PREDETERMINADOS = { "1K", "10K", "100K", "1M", "10M", "100M" };
+
+    // Con programas grandes se hacen menos iteraciones: se procura no pasar de
+    // este total de caracteres por medición
+    private static final long CARACTERES_POR_MEDICION = 256L << 20;
+
+    /**
+     * Parser que acumula el tiempo de las acciones de la gramática y el de la
+     * recuperación de errores. Medir cada acción tiene un coste propio, así que
+     * solo se usa para repartir el tiempo, no para medir el total
+     */
+    private static final class ParserMedido extends parser {
+        private long nanosAcciones = 0;
+        private long nanosRecuperacion = 0;
+        private boolean enRecuperacion = false;
+
+        ParserMedido(Scanner escaner) {
+            super(escaner, Analizador.fabricaSimbolos());
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Symbol do_action(int accion, lr_parser parser, Stack pila, int tope) throws Exception {
+            // Las acciones ejecutadas durante la recuperación cuentan como recuperación
+            if (enRecuperacion) {
+                return super.do_action(accion, parser, pila, tope);
+            }
+            long inicio = System.nanoTime();
+            try {
+                return super.do_action(accion, parser, pila, tope);
+            } finally {
+                nanosAcciones += System.nanoTime() - inicio;
+            }
+        }
+
+        @Override
+        protected boolean error_recovery(boolean debug) throws Exception {
+            enRecuperacion = true;
+            long inicio = System.nanoTime();
+            try {
+                return super.error_recovery(debug);
+            } finally {
+                nanosRecuperacion += System.nanoTime() - inicio;
+                enRecuperacion = false;
+            }
+        }
+    }
+
+    /**
+     * Genera un programa con {@link GeneradorProgramas}
+     *
+     * @param tamano     Tamaño aproximado en bytes
+     * @param conErrores true para intercalar instrucciones erróneas
+     * @param semilla    Semilla del generador aleatorio
+     * @return Texto del programa
+     * @throws IOException No ocurre al escribir en memoria
+     */
+    public static String generar(int tamano, boolean conErrores, long semilla) throws IOException {
+        GeneradorProgramas generador = new GeneradorProgramas(semilla);
+        generador.setNumRobots(16);
+        generador.setTamanoMaximo(tamano);
+        generador.setProfundidadMaxima(8);
+        generador.setProporcionFueraDeRango(0.02);
+        if (conErrores) {
+            generador.setProporcionErrores(0.25);
+        }
+        StringWriter salida = new StringWriter(tamano + 256);
+        generador.generar(salida);
+        return salida.toString();
+    }
+
+    // Escanea el texto completo guardando los tokens, como el editor
+    private static BufferTokens escanear(String texto) throws Exception {
+        Lexer lexer = new Lexer(texto);
+        for (Symbol s = lexer.next_token(); s.sym != sym.EOF; s = lexer.next_token()) {
+            // Solo interesa el buffer
+        }
+        return lexer.getTokens();
+    }
+
+    // Parsea los tokens ya escaneados; las acciones llenan la tabla de
+    // símbolos y construyen el árbol
+    private static parser parsear(BufferTokens tokens) throws Exception {
+        parser parser = new parser(new EscanerTokens(tokens), Analizador.fabricaSimbolos());
+        parser.parse();
+        parser.getArbol();
+        return parser;
+    }
+
+    /**
+     * Punto de entrada de la medición
+     */
+    public static void main(String[] args) throws Exception {
+        int iteraciones = 10;
+        int calentamiento = 3;
+        long semilla = 42;
+        List<Long> tamanos = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--iteraciones":
+                        iteraciones = (int) Argumentos.leerNumero(args, ++i, "--iteraciones", 1, Integer.MAX_VALUE);
+                        break;
+                    case "--calentamiento":
+                        calentamiento = (int) Argumentos.leerNumero(args, ++i, "--calentamiento", 0,
+                                Integer.MAX_VALUE);
+                        break;
+                    case "--semilla":
+                        semilla = Argumentos.leerNumero(args, ++i, "--semilla");
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                        }
+                        tamanos.add(Argumentos.leerNumero(args, i, "tamaño", 1, Integer.MAX_VALUE));
+                        break;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+        if (tamanos.isEmpty()) {
+            for (String tamano : TAMANOS_PREDETERMINADOS) {
+                tamanos.add(Argumentos.leerNumero(new String[] { tamano }, 0, "tamaño"));
+            }
+        }
+
+        System.out.println("Tiempos en ms (mediana); tablas, acciones y recuperación reparten el tiempo del parser");
+        System.out.printf("%-7s %-8s %10s %8s %9s %9s %9s %9s %9s %9s %9s %9s%n", "tamaño", "programa", "tokens",
+                "recup.", "léxico", "parser", "tablas", "acciones", "recup.", "semánt.", "total", "ns/token");
+        for (long tamano : tamanos) {
+            int n = (int) Math.max(1, Math.min(iteraciones, CARACTERES_POR_MEDICION / tamano));
+            int c = Math.min(calentamiento, n);
+
+            for (int tipo = 0; tipo < 2; tipo++) {
+                boolean conErrores = tipo == 1;
+                String texto = generar((int) Math.min(tamano, Integer.MAX_VALUE - 256), conErrores, semilla);
+                BufferTokens tokens = escanear(texto);
+                parser parseado = parsear(tokens);
+                Arbol arbol = parseado.getArbol();
+                AnalizadorSemantico semantico = new AnalizadorSemantico(parseado.getTablaSimbolo());
+                int recuperaciones = 0;
+                for (Diagnostico d : parseado.getDiagnosticos()) {
+                    if (d.getCodigo() == Diagnostico.RECUPERACION) {
+                        recuperaciones++;
+                    }
+                }
+
+                Benchmark.Medicion lexico = Benchmark.medir("léxico", c, n, () -> escanear(texto).size());
+                Benchmark.Medicion sintactico = Benchmark.medir("parser", c, n,
+                        () -> parsear(tokens).getArbol().getNumNodos());
+                Benchmark.Medicion semanticoM = Benchmark.medir("semántico", c, n, () -> {
+                    long[] errores = { 0 };
+                    semantico.analizar(arbol, d -> errores[0]++);
+                    return errores[0];
+                });
+                Benchmark.Medicion total = Benchmark.medir("total", c, n,
+                        () -> Analizador.analizar(new StringReader(texto)).getErrores().size());
+
+                // Reparto del tiempo del parser, en proporción a la pasada instrumentada
+                long nanosTotal = 0;
+                long nanosAcciones = 0;
+                long nanosRecuperacion = 0;
+                for (int i = 0; i < n; i++) {
+                    ParserMedido medido = new ParserMedido(new EscanerTokens(tokens));
+                    long inicio = System.nanoTime();
+                    medido.parse();
+                    nanosTotal += System.nanoTime() - inicio;
+                    nanosAcciones += medido.nanosAcciones;
+                    nanosRecuperacion += medido.nanosRecuperacion;
+                }
+                double parserMs = sintactico.getSegundos() * 1e3;
+                double accionesMs = parserMs * nanosAcciones / nanosTotal;
+                double recuperacionMs = parserMs * nanosRecuperacion / nanosTotal;
+
+                System.out.printf(Locale.ROOT, "%-7s %-8s %10d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %9.1f%n",
+                        formatearTamano(tamano), conErrores ? "errores" : "válido", tokens.size(), recuperaciones,
+                        lexico.getSegundos() * 1e3, parserMs, parserMs - accionesMs - recuperacionMs, accionesMs,
+                        recuperacionMs, semanticoM.getSegundos() * 1e3, total.getSegundos() * 1e3,
+                        total.getSegundos() * 1e9 / tokens.size());
+            }
+        }
+    }
+
+    private static String formatearTamano(long tamano) {
+        if (tamano >= 1L << 20) {
+            return (tamano >> 20) + "M";
+        }
+        if (tamano >= 1L << 10) {
+            return (tamano >> 10) + "K";
+        }
+        return String.valueOf(tamano);
+    }
+}
@@ -0,0 +1,138 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Utilidades para medir el rendimiento del analizador sin dependencias
+ * externas: iteraciones de calentamiento, iteraciones medidas, tiempo por
+ * iteración y bytes reservados por el hilo (según el ThreadMXBean de la JVM).
+ *
+ * Lo usan los programas Bench*, que se ejecutan desde la línea de comandos.
+ */
+public final class Benchmark {
+
+    /**
+     * Operación a medir. Devuelve un número que depende del trabajo hecho
+     * (por ejemplo, los tokens leídos) para que la JVM no pueda descartarlo
+     */
+    public interface Operacion {
+        long ejecutar() throws Exception;
+    }
+
+    /**
+     * Resultado de medir una operación
+     */
+    public static final class Medicion {
+        private final String nombre;
+        private final long[] nanos; // Duración de cada iteración medida
+        private final long bytesReservados; // Total de las iteraciones medidas, -1 si no se puede medir
+        private final long unidades; // Valor devuelto por la operación en una iteración
+
+        Medicion(String nombre, long[] nanos, long bytesReservados, long unidades) {
+            this.nombre = nombre;
+            this.nanos = nanos;
+            this.bytesReservados = bytesReservados;
+            this.unidades = unidades;
+        }
+
+        // Getters
+        public String getNombre() {
+            return nombre;
+        }
+
+        public int getIteraciones() {
+            return nanos.length;
+        }
+
+        public long getUnidades() {
+            return unidades;
+        }
+
+        /**
+         * Duración mediana de una iteración
+         *
+         * @return Segundos por iteración
+         */
+        public double getSegundos() {
+            long[] ordenados = nanos.clone();
+            Arrays.sort(ordenados);
+            return ordenados[ordenados.length / 2] / 1e9;
+        }
+
+        /**
+         * Duración de la iteración más rápida
+         *
+         * @return Segundos por iteración
+         */
+        public double getSegundosMinimo() {
+            return Arrays.stream(nanos).min().orElse(0) / 1e9;
+        }
+
+        /**
+         * Bytes reservados en el heap por iteración
+         *
+         * @return Bytes por iteración, o -1 si la JVM no permite medirlos
+         */
+        public double getBytesPorIteracion() {
+            return bytesReservados < 0 ? -1 : (double) bytesReservados / nanos.length;
+        }
+    }
+
+    // Destino de los valores devueltos por las operaciones
+    private static volatile long sumidero;
+
+    private Benchmark() {
+    }
+
+    /**
+     * Mide una operación en el hilo actual
+     *
+     * @param nombre        Nombre de la medición
+     * @param calentamiento Iteraciones previas sin medir (para que el JIT
+     *                      compile el código)
+     * @param iteraciones   Iteraciones medidas
+     * @param operacion     Operación a medir
+     * @return Medición con las duraciones y la memoria reservada
+     * @throws IllegalArgumentException Si no hay al menos una iteración medida
+     * @throws Exception                Si la operación falla
+     */
+    public static Medicion medir(String nombre, int calentamiento, int iteraciones, Operacion operacion)
+            throws Exception {
+        if (iteraciones < 1 || calentamiento < 0) {
+            throw new IllegalArgumentException("Se necesita al menos una iteración medida y un calentamiento no"
+                    + " negativo: " + iteraciones + ", " + calentamiento);
+        }
+        for (int i = 0; i < calentamiento; i++) {
+            sumidero += operacion.ejecutar();
+        }
+
+        long[] nanos = new long[iteraciones];
+        long unidades = 0;
+        long bytesAntes = bytesReservados();
+        for (int i = 0; i < iteraciones; i++) {
+            long inicio = System.nanoTime();
+            unidades = operacion.ejecutar();
+            nanos[i] = System.nanoTime() - inicio;
+            sumidero += unidades;
+        }
+        long bytesDespues = bytesReservados();
+
+        long bytes = bytesAntes < 0 || bytesDespues < 0 ? -1 : bytesDespues - bytesAntes;
+        return new Medicion(nombre, nanos, bytes, unidades);
+    }
+
+    /**
+     * Bytes reservados hasta ahora por el hilo actual
+     *
+     * @return Total de bytes, o -1 si la JVM no lo permite
+     */
+    public static long bytesReservados() {
+        java.lang.management.ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        if (hilos instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hilosSun = (com.sun.management.ThreadMXBean) hilos;
+            if (hilosSun.isThreadAllocatedMemorySupported() && hilosSun.isThreadAllocatedMemoryEnabled()) {
+                return hilosSun.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,300 @@
+import java.util.Arrays;
+
+/**
+ * Almacén compacto de tokens para el análisis léxico.
+ *
+ * En lugar de crear un objeto {@link Token} por cada token, los datos se
+ * guardan en arreglos primitivos paralelos (tipo, inicio, longitud, línea y
+ * columna) divididos en bloques de tamaño fijo. Al crecer solo se reserva un
+ * bloque nuevo, sin copiar los anteriores. El lexema no se guarda: se extrae
+ * del texto fuente únicamente cuando alguien lo pide.
+ */
+public class BufferTokens {
+
+    // Tipos de token
+    public static final byte PALABRA_RESERVADA = 0;
+    public static final byte DELIMITADOR = 1;
+    public static final byte OPERADOR = 2;
+    public static final byte IDENTIFICADOR = 3;
+    public static final byte NUMERO = 4;
+    public static final byte METODO = 5;
+    public static final byte PROPIEDAD = 6;
+    public static final byte DESCONOCIDO = 7;
+    public static final byte ERROR = 8; // Símbolo no reconocido
+    public static final byte ERROR_DESPUES_PUNTO = 9; // Símbolo inesperado después de punto
+    public static final byte ERROR_NUMERO = 10; // Número fuera de rango
+
+    // Nombres de los tipos, indexados por el código del tipo
+    private static final String[] NOMBRES_TIPO = {
+            "PALABRA_RESERVADA", "DELIMITADOR", "OPERADOR", "IDENTIFICADOR", "NUMERO",
+            "METODO", "PROPIEDAD", "DESCONOCIDO", "ERROR", "ERROR", "ERROR"
+    };
+
+    // Cada bloque guarda 4096 tokens
+    private static final int BITS_BLOQUE = 12;
+    private static final int TAMANO_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int MASCARA_BLOQUE = TAMANO_BLOQUE - 1;
+
+    private final CharSequence fuente; // Texto del que se extraen los lexemas (puede ser null)
+
+    private byte[][] tipos = new byte[4][];
+    private byte[][] simbolos = new byte[4][];
+    private int[][] inicios = new int[4][];
+    private int[][] longitudes = new int[4][];
+    private int[][] lineas = new int[4][];
+    private int[][] columnas = new int[4][];
+    private int tamano = 0;
+
+    /**
+     * Crea un buffer sin texto fuente; los lexemas no estarán disponibles
+     */
+    public BufferTokens() {
+        this(null);
+    }
+
+    /**
+     * Crea un buffer asociado al texto fuente que se va a analizar
+     *
+     * @param fuente Texto del que se extraen los lexemas
+     */
+    public BufferTokens(CharSequence fuente) {
+        this.fuente = fuente;
+    }
+
+    /**
+     * Añade un token al final del buffer
+     *
+     * @param tipo     Tipo de token
+     * @param simbolo  Terminal que se entregó al parser (constante de sym)
+     * @param inicio   Posición del primer carácter en el texto fuente
+     * @param longitud Número de caracteres del token
+     * @param linea    Línea donde se encontró (comenzando en 1)
+     * @param columna  Columna donde se encontró (comenzando en 1)
+     */
+    public void agregar(byte tipo, int simbolo, int inicio, int longitud, int linea, int columna) {
+        int bloque = tamano >>> BITS_BLOQUE;
+        int pos = tamano & MASCARA_BLOQUE;
+
+        if (pos == 0 && (bloque == tipos.length || tipos[bloque] == null)) {
+            reservarBloque(bloque);
+        }
+
+        tipos[bloque][pos] = tipo;
+        simbolos[bloque][pos] = (byte) simbolo;
+        inicios[bloque][pos] = inicio;
+        longitudes[bloque][pos] = longitud;
+        lineas[bloque][pos] = linea;
+        columnas[bloque][pos] = columna;
+        tamano++;
+    }
+
+    /**
+     * Reserva un nuevo bloque para cada uno de los arreglos
+     */
+    private void reservarBloque(int bloque) {
+        if (bloque == tipos.length) {
+            int nuevaLongitud = tipos.length * 2;
+            tipos = Arrays.copyOf(tipos, nuevaLongitud);
+            simbolos = Arrays.copyOf(simbolos, nuevaLongitud);
+            inicios = Arrays.copyOf(inicios, nuevaLongitud);
+            longitudes = Arrays.copyOf(longitudes, nuevaLongitud);
+            lineas = Arrays.copyOf(lineas, nuevaLongitud);
+            columnas = Arrays.copyOf(columnas, nuevaLongitud);
+        }
+        tipos[bloque] = new byte[TAMANO_BLOQUE];
+        simbolos[bloque] = new byte[TAMANO_BLOQUE];
+        inicios[bloque] = new int[TAMANO_BLOQUE];
+        longitudes[bloque] = new int[TAMANO_BLOQUE];
+        lineas[bloque] = new int[TAMANO_BLOQUE];
+        columnas[bloque] = new int[TAMANO_BLOQUE];
+    }
+
+    /**
+     * Número de tokens almacenados
+     *
+     * @return Cantidad de tokens
+     */
+    public int size() {
+        return tamano;
+    }
+
+    /**
+     * Descarta los tokens a partir de una posición
+     *
+     * @param nuevoTamano Número de tokens que se conservan
+     */
+    public void truncar(int nuevoTamano) {
+        tamano = Math.min(tamano, nuevoTamano);
+    }
+
+    // Getters por índice de token
+    public byte getTipo(int i) {
+        return tipos[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    public String getTipoToken(int i) {
+        return NOMBRES_TIPO[getTipo(i)];
+    }
+
+    public int getSimbolo(int i) {
+        return simbolos[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    public int getInicio(int i) {
+        return inicios[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    public int getLongitud(int i) {
+        return longitudes[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    public int getLinea(int i) {
+        return lineas[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    public int getColumna(int i) {
+        return columnas[i >>> BITS_BLOQUE][i & MASCARA_BLOQUE];
+    }
+
+    /**
+     * Obtiene el texto de un token, extrayéndolo del texto fuente
+     *
+     * @param i Índice del token
+     * @return Lexema del token
+     * @throws IllegalStateException Si el buffer no tiene texto fuente asociado
+     */
+    public String getLexema(int i) {
+        if (fuente == null) {
+            throw new IllegalStateException("El buffer de tokens no tiene texto fuente asociado");
+        }
+        int inicio = getInicio(i);
+        return fuente.subSequence(inicio, inicio + getLongitud(i)).toString();
+    }
+
+    /**
+     * Texto fuente asociado al buffer
+     *
+     * @return Texto fuente, o null si el buffer no tiene
+     */
+    public CharSequence getFuente() {
+        return fuente;
+    }
+
+    /**
+     * Posición del primer carácter después del token
+     *
+     * @param i Índice del token
+     * @return Posición final (exclusiva) en el texto fuente
+     */
+    public int getFin(int i) {
+        return getInicio(i) + getLongitud(i);
+    }
+
+    /**
+     * Indica si el token es de alguno de los tipos de error
+     *
+     * @param i Índice del token
+     * @return true si el tipo del token es un error
+     */
+    public boolean esError(int i) {
+        return getTipo(i) >= ERROR;
+    }
+
+    /**
+     * Reconstruye el diagnóstico que el lexer reportó para un token de error
+     * (simbolo == sym.ERROR), igual que el que se construye en Lexer.flex
+     *
+     * @param i Índice del token
+     * @return Diagnóstico léxico del token
+     */
+    public Diagnostico getDiagnostico(int i) {
+        short codigo;
+        switch (getTipo(i)) {
+            case DESCONOCIDO:
+                codigo = Diagnostico.METODO_DESCONOCIDO;
+                break;
+            case ERROR_DESPUES_PUNTO:
+                codigo = Diagnostico.SIMBOLO_DESPUES_PUNTO;
+                break;
+            case ERROR_NUMERO:
+                codigo = Diagnostico.NUMERO_FUERA_DE_RANGO;
+                break;
+            case OPERADOR:
+                codigo = Diagnostico.OPERADOR_NO_PERMITIDO;
+                break;
+            default:
+                codigo = Diagnostico.SIMBOLO_NO_RECONOCIDO;
+                break;
+        }
+        return new Diagnostico(Diagnostico.LEXICO, codigo, getLinea(i), getColumna(i), getLongitud(i), getLexema(i));
+    }
+
+    /**
+     * Busca el primer token que empieza en una posición igual o posterior a la
+     * indicada (búsqueda binaria)
+     *
+     * @param posicion Posición en el texto fuente
+     * @return Índice del token, o size() si no hay ninguno
+     */
+    public int buscarDesde(int posicion) {
+        int bajo = 0;
+        int alto = tamano;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (getInicio(medio) < posicion) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Copia al final de este buffer un rango de tokens de otro buffer
+     *
+     * @param otro  Buffer de origen
+     * @param desde Primer token a copiar
+     * @param hasta Token siguiente al último a copiar
+     */
+    public void agregarRango(BufferTokens otro, int desde, int hasta) {
+        agregarDesplazados(otro, desde, hasta, 0, 0, -1, 0);
+    }
+
+    /**
+     * Copia al final de este buffer un rango de tokens de otro buffer,
+     * desplazando sus posiciones. Se usa para reutilizar los tokens que siguen
+     * a una edición: su texto no cambió, pero sí su posición.
+     *
+     * @param otro          Buffer de origen
+     * @param desde         Primer token a copiar
+     * @param hasta         Token siguiente al último a copiar
+     * @param deltaInicio   Desplazamiento de la posición en el texto
+     * @param deltaLinea    Desplazamiento del número de línea
+     * @param lineaColumnas Línea (en el buffer de origen) cuyos tokens también
+     *                      cambian de columna
+     * @param deltaColumna  Desplazamiento de la columna para esa línea
+     */
+    public void agregarDesplazados(BufferTokens otro, int desde, int hasta, int deltaInicio, int deltaLinea,
+            int lineaColumnas, int deltaColumna) {
+        for (int i = desde; i < hasta; i++) {
+            int linea = otro.getLinea(i);
+            int columna = otro.getColumna(i);
+            if (linea == lineaColumnas) {
+                columna += deltaColumna;
+            }
+            agregar(otro.getTipo(i), otro.getSimbolo(i), otro.getInicio(i) + deltaInicio, otro.getLongitud(i),
+                    linea + deltaLinea, columna);
+        }
+    }
+
+    /**
+     * Crea un objeto Token con los datos de un token del buffer
+     *
+     * @param i Índice del token
+     * @return Token equivalente
+     */
+    public Token getToken(int i) {
+        return new Token(getLexema(i), getTipoToken(i), getLinea(i), getColumna(i));
+    }
+}
@@ -0,0 +1,260 @@
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Caché de resultados de análisis, indexada por un hash del texto fuente.
+ *
+ * Guarda los tokens y el resultado completo (diagnósticos y tabla de símbolos)
+ * de los últimos textos analizados; si el mismo texto vuelve a analizarse se
+ * devuelve lo guardado sin pasar por el lexer ni el parser. Se descartan las
+ * entradas usadas hace más tiempo cuando se supera el número de entradas o el
+ * total de caracteres. Los resultados guardados se comparten entre quienes los
+ * piden, así que no deben modificarse. Es segura entre hilos.
+ *
+ * Opcionalmente se apoya en una {@link CacheDisco}: lo que no está en memoria
+ * se busca en disco, y todo lo que se guarda se escribe también allí.
+ *
+ * Los tokens solo se guardan si la caché se crea con tokens (el editor los
+ * necesita para colorear el texto); el modo por lotes solo usa el resultado,
+ * así que analiza sin registrar tokens.
+ */
+public class CacheAnalisis {
+
+    /**
+     * Análisis guardado de un texto
+     */
+    public static final class Entrada {
+        private final String texto;
+        private final BufferTokens tokens; // null si no se guardaron
+        private final ResultadoAnalisis resultado;
+
+        Entrada(String texto, BufferTokens tokens, ResultadoAnalisis resultado) {
+            this.texto = texto;
+            this.tokens = tokens;
+            this.resultado = resultado;
+        }
+
+        // Getters
+        public String getTexto() {
+            return texto;
+        }
+
+        public BufferTokens getTokens() {
+            return tokens;
+        }
+
+        public ResultadoAnalisis getResultado() {
+            return resultado;
+        }
+    }
+
+    private final int maxEntradas;
+    private final long maxCaracteres;
+    private final CacheDisco disco; // null si la caché es solo en memoria
+    private final boolean conTokens; // true si las entradas deben tener tokens
+
+    // Entradas por hash, en orden de uso (la primera es la usada hace más tiempo)
+    private final LinkedHashMap<Long, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long caracteres = 0; // Total de caracteres de los textos guardados
+    private long aciertos = 0;
+    private long fallos = 0;
+    private long aciertosDisco = 0; // Aciertos que vinieron del disco (incluidos en aciertos)
+
+    /**
+     * Constructor de la caché en memoria, con tokens
+     *
+     * @param maxEntradas   Número máximo de textos guardados
+     * @param maxCaracteres Total máximo de caracteres de los textos guardados
+     */
+    public CacheAnalisis(int maxEntradas, long maxCaracteres) {
+        this(maxEntradas, maxCaracteres, null, true);
+    }
+
+    /**
+     * Constructor de la caché con respaldo en disco
+     *
+     * @param maxEntradas   Número máximo de textos guardados en memoria
+     * @param maxCaracteres Total máximo de caracteres de los textos en memoria
+     * @param disco         Caché en disco, o null para no usarla
+     * @param conTokens     true si se guardan los tokens de cada texto
+     */
+    public CacheAnalisis(int maxEntradas, long maxCaracteres, CacheDisco disco, boolean conTokens) {
+        this.maxEntradas = maxEntradas;
+        this.maxCaracteres = maxCaracteres;
+        this.disco = disco;
+        this.conTokens = conTokens;
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits sobre los caracteres del texto
+     *
+     * @param texto Texto fuente
+     * @return Hash del texto
+     */
+    public static long hash(CharSequence texto) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < texto.length(); i++) {
+            hash = (hash ^ texto.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Busca el análisis guardado de un texto
+     *
+     * @param texto Texto fuente
+     * @return Entrada guardada, o null si el texto no está en la caché
+     */
+    public Entrada buscar(String texto) {
+        long hash = hash(texto);
+        synchronized (this) {
+            Entrada entrada = entradas.get(hash);
+            // Dos textos distintos con el mismo hash cuentan como fallo
+            if (entrada != null && entrada.texto.equals(texto) && (entrada.tokens != null || !conTokens)) {
+                aciertos++;
+                return entrada;
+            }
+            if (disco == null) {
+                fallos++;
+                return null;
+            }
+        }
+
+        // La lectura del disco se hace fuera del bloqueo
+        Entrada entrada = disco.leer(texto);
+        synchronized (this) {
+            // Un archivo escrito sin tokens no sirve si se necesitan
+            if (entrada == null || (entrada.tokens == null && conTokens)) {
+                fallos++;
+                return null;
+            }
+            aciertos++;
+            aciertosDisco++;
+            guardarEnMemoria(hash, entrada);
+            return entrada;
+        }
+    }
+
+    /**
+     * Guarda el análisis de un texto, descartando las entradas más antiguas si
+     * hace falta
+     *
+     * @param texto     Texto fuente
+     * @param tokens    Tokens del texto (null si no se registraron)
+     * @param resultado Resultado del análisis del texto
+     */
+    public void guardar(String texto, BufferTokens tokens, ResultadoAnalisis resultado) {
+        long hash = hash(texto);
+        synchronized (this) {
+            guardarEnMemoria(hash, new Entrada(texto, tokens, resultado));
+        }
+        if (disco != null) {
+            disco.escribir(texto, tokens, resultado);
+        }
+    }
+
+    // Debe llamarse con el bloqueo tomado
+    private void guardarEnMemoria(long hash, Entrada entrada) {
+        // Un texto mayor que toda la caché no se guarda
+        if (entrada.texto.length() > maxCaracteres) {
+            return;
+        }
+        Entrada anterior = entradas.put(hash, entrada);
+        if (anterior != null) {
+            caracteres -= anterior.texto.length();
+        }
+        caracteres += entrada.texto.length();
+
+        Iterator<Entrada> it = entradas.values().iterator();
+        while (entradas.size() > maxEntradas || caracteres > maxCaracteres) {
+            caracteres -= it.next().texto.length();
+            it.remove();
+        }
+    }
+
+    /**
+     * Analiza un texto completo (léxico, sintáctico y semántico), usando la
+     * caché si el texto ya se analizó. Si la caché no guarda tokens, el texto
+     * se analiza en una sola pasada sin registrarlos
+     *
+     * @param texto Texto fuente
+     * @return Resultado del análisis
+     */
+    public ResultadoAnalisis analizar(String texto) {
+        return analizar(texto, null);
+    }
+
+    /**
+     * Analiza un programa en UTF-8. Si no está en la caché y la caché no guarda
+     * tokens, se analizan directamente sus bytes con {@link EscanerBytes}
+     *
+     * @param bytes Texto fuente en UTF-8 (las secuencias no válidas se leen
+     *              como U+FFFD)
+     * @return Resultado del análisis
+     */
+    public ResultadoAnalisis analizar(byte[] bytes) {
+        return analizar(new String(bytes, StandardCharsets.UTF_8), bytes);
+    }
+
+    private ResultadoAnalisis analizar(String texto, byte[] bytes) {
+        Entrada entrada = buscar(texto);
+        if (entrada != null) {
+            return entrada.getResultado();
+        }
+
+        if (!conTokens) {
+            ResultadoAnalisis resultado = bytes != null ? Analizador.analizar(ByteBuffer.wrap(bytes))
+                    : Analizador.analizar(new StringReader(texto));
+            guardar(texto, null, resultado);
+            return resultado;
+        }
+
+        BufferTokens tokens = new LexerIncremental().actualizar(texto).getTokens();
+        ResultadoAnalisis resultado = Analizador.analizar(tokens);
+        guardar(texto, tokens, resultado);
+        return resultado;
+    }
+
+    /**
+     * Vacía la caché (los contadores se mantienen)
+     */
+    public synchronized void limpiar() {
+        entradas.clear();
+        caracteres = 0;
+    }
+
+    // Getters de los contadores
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    public synchronized long getAciertosDisco() {
+        return aciertosDisco;
+    }
+
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    public synchronized int size() {
+        return entradas.size();
+    }
+
+    public synchronized long getCaracteres() {
+        return caracteres;
+    }
+
+    /**
+     * Resumen de uso de la caché
+     *
+     * @return Texto con aciertos, fallos y ocupación
+     */
+    @Override
+    public synchronized String toString() {
+        return "Caché: " + aciertos + " aciertos" + (disco != null ? " (" + aciertosDisco + " en disco)" : "")
+                + ", " + fallos + " fallos, " + entradas.size() + " entradas";
+    }
+}
@@ -0,0 +1,391 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Caché de análisis en disco: un archivo binario por texto analizado, con
+ * los tokens (si se guardaron), los diagnósticos, la tabla de símbolos y el
+ * árbol sintáctico.
+ * Permite reutilizar los resultados entre ejecuciones de la JVM.
+ *
+ * Cada archivo se llama como el hash del texto y empieza con un número mágico,
+ * la versión del formato, la longitud y un segundo hash del texto; si algo no
+ * coincide (otra versión, otro texto, archivo dañado) se trata como un fallo.
+ * Se lee con un FileChannel mapeado en memoria y se escribe en un archivo
+ * temporal que después se renombra, así otro proceso nunca ve uno a medias.
+ */
+public class CacheDisco {
+
+    private static final int MAGICO = 0x524F4243; // "ROBC"
+
+    // Cambiar la versión al modificar el formato invalida los archivos anteriores
+    private static final int VERSION = 2;
+
+    // Marcas del tipo del dato de un diagnóstico
+    private static final byte DATO_NULO = 0;
+    private static final byte DATO_TEXTO = 1;
+    private static final byte DATO_ENTERO = 2;
+    private static final byte DATO_DIAGNOSTICO = 3;
+
+    private final Path directorio;
+
+    /**
+     * Constructor de la caché en disco
+     *
+     * @param directorio Directorio de los archivos (se crea si no existe)
+     * @throws IOException Si no se puede crear el directorio
+     */
+    public CacheDisco(Path directorio) throws IOException {
+        this.directorio = Files.createDirectories(directorio);
+    }
+
+    /**
+     * Lee el análisis guardado de un texto
+     *
+     * @param texto Texto fuente
+     * @return Entrada con los tokens (null si no se guardaron) y el resultado,
+     *         o null si no hay un archivo válido para el texto
+     */
+    public CacheAnalisis.Entrada leer(String texto) {
+        Path archivo = archivo(texto);
+        if (!Files.isRegularFile(archivo)) {
+            return null;
+        }
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return decodificar(datos, texto);
+        } catch (IOException | RuntimeException e) {
+            // Un archivo dañado o truncado cuenta como fallo
+            return null;
+        }
+    }
+
+    /**
+     * Guarda el análisis de un texto. Un error de escritura solo hace que el
+     * texto no quede en la caché
+     *
+     * @param texto     Texto fuente
+     * @param tokens    Tokens del texto, o null para no guardarlos
+     * @param resultado Resultado del análisis del texto
+     */
+    public void escribir(String texto, BufferTokens tokens, ResultadoAnalisis resultado) {
+        Path archivo = archivo(texto);
+        Path temporal = null;
+        try {
+            temporal = Files.createTempFile(directorio, "analisis", ".tmp");
+            try (DataOutputStream salida = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+                codificar(salida, texto, tokens, resultado);
+            }
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (temporal != null) {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException ignorada) {
+                    // No se pudo limpiar el temporal; no afecta al análisis
+                }
+            }
+        }
+    }
+
+    private Path archivo(String texto) {
+        return directorio.resolve(String.format("%016x.bin", CacheAnalisis.hash(texto)));
+    }
+
+    // Segundo hash del texto, independiente del que da nombre al archivo
+    private static long hashVerificacion(String texto) {
+        long hash = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            hash = 31 * hash + texto.charAt(i);
+        }
+        return hash;
+    }
+
+    private static void codificar(DataOutputStream salida, String texto, BufferTokens tokens,
+            ResultadoAnalisis resultado) throws IOException {
+        salida.writeInt(MAGICO);
+        salida.writeInt(VERSION);
+        salida.writeInt(texto.length());
+        salida.writeLong(hashVerificacion(texto));
+
+        // Tokens (-1 si no se guardan)
+        salida.writeInt(tokens != null ? tokens.size() : -1);
+        for (int i = 0; tokens != null && i < tokens.size(); i++) {
+            salida.writeByte(tokens.getTipo(i));
+            salida.writeByte(tokens.getSimbolo(i));
+            salida.writeInt(tokens.getInicio(i));
+            salida.writeInt(tokens.getLongitud(i));
+            salida.writeInt(tokens.getLinea(i));
+            salida.writeInt(tokens.getColumna(i));
+        }
+
+        // Diagnósticos
+        salida.writeInt(resultado.getNumTokens());
+        escribirDiagnosticos(salida, resultado.getErroresLexicos());
+        escribirDiagnosticos(salida, resultado.getErrores());
+
+        // Tabla de símbolos: índice de definiciones y usos por nombre, y usos de
+        // métodos
+        TablaSimbolo tabla = resultado.getTablaSimbolo();
+        ArrayList<Nombre> nombres = tabla.getNombres();
+        salida.writeInt(nombres.size());
+        for (Nombre nombre : nombres) {
+            salida.writeInt(nombre.getId());
+            escribirTexto(salida, nombre.getTexto());
+            escribirPosiciones(salida, tabla.getDeclaraciones(nombre));
+            escribirPosiciones(salida, tabla.getReferencias(nombre));
+        }
+        List<TablaSimbolo.UsoMetodo> usos = tabla.getUsos();
+        salida.writeInt(usos.size());
+        for (TablaSimbolo.UsoMetodo uso : usos) {
+            escribirTexto(salida, uso.getRobot());
+            escribirTexto(salida, uso.getMetodo());
+            salida.writeBoolean(uso.getArgumento() != null);
+            salida.writeInt(uso.getArgumento() != null ? uso.getArgumento() : 0);
+            salida.writeBoolean(uso.isAsignacion());
+            salida.writeInt(uso.getLinea());
+            salida.writeInt(uso.getColumna());
+        }
+
+        // Árbol sintáctico
+        Arbol arbol = resultado.getArbol();
+        salida.writeInt(arbol.getNumNodos());
+        for (int nodo = 0; nodo < arbol.getNumNodos(); nodo++) {
+            salida.writeByte(arbol.getTipo(nodo));
+            salida.writeByte(arbol.getMetodo(nodo));
+            salida.writeInt(arbol.getIdRobot(nodo));
+            salida.writeInt(arbol.getValor(nodo));
+            salida.writeLong(arbol.getPosicion(nodo));
+            salida.writeLong(arbol.getPosicionMetodo(nodo));
+            salida.writeLong(arbol.getPosicionValor(nodo));
+            salida.writeInt(arbol.getFin(nodo));
+        }
+        salida.writeInt(arbol.getNumNombres());
+        for (int id = 0; id < arbol.getNumNombres(); id++) {
+            escribirTexto(salida, arbol.getNombre(id));
+        }
+    }
+
+    private static CacheAnalisis.Entrada decodificar(ByteBuffer datos, String texto) {
+        if (datos.getInt() != MAGICO || datos.getInt() != VERSION || datos.getInt() != texto.length()
+                || datos.getLong() != hashVerificacion(texto)) {
+            return null;
+        }
+
+        // Tokens
+        int numTokensBuffer = datos.getInt();
+        BufferTokens tokens = numTokensBuffer >= 0 ? new BufferTokens(texto) : null;
+        for (int i = 0; i < numTokensBuffer; i++) {
+            byte tipo = datos.get();
+            int simbolo = datos.get();
+            tokens.agregar(tipo, simbolo, datos.getInt(), datos.getInt(), datos.getInt(), datos.getInt());
+        }
+
+        // Diagnósticos
+        int numTokens = datos.getInt();
+        ArrayList<Diagnostico> erroresLexicos = leerDiagnosticos(datos);
+        ArrayList<Diagnostico> errores = leerDiagnosticos(datos);
+
+        // Tabla de símbolos: se vuelve a llenar con sus propios métodos, con los
+        // mismos ids de nombre que tenía
+        TablaSimbolo tabla = new TablaSimbolo();
+        int numNombres = datos.getInt();
+        Nombre[] nombres = new Nombre[numNombres];
+        long[][] declaraciones = new long[numNombres][];
+        long[][] referencias = new long[numNombres][];
+        for (int i = 0; i < numNombres; i++) {
+            int id = datos.getInt();
+            String nombre = leerTexto(datos);
+            nombres[i] = new Nombre(id, nombre, nombre.hashCode());
+            declaraciones[i] = leerPosiciones(datos);
+            referencias[i] = leerPosiciones(datos);
+        }
+
+        // Los robots se añaden en el orden de su primera declaración, que es el
+        // orden de la tabla; después las redeclaraciones y las referencias
+        Integer[] orden = new Integer[numNombres];
+        for (int i = 0; i < numNombres; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, Comparator.comparingLong(i -> declaraciones[i].length > 0 ? declaraciones[i][0] : 0));
+        for (int i : orden) {
+            for (long posicion : declaraciones[i]) {
+                tabla.agregarSimbolo(nombres[i], TablaSimbolo.TipoSimbolo.ROBOT, Arbol.linea(posicion) - 1,
+                        Arbol.columna(posicion) - 1);
+            }
+            for (long posicion : referencias[i]) {
+                tabla.registrarReferencia(nombres[i], Arbol.linea(posicion) - 1, Arbol.columna(posicion) - 1);
+            }
+        }
+        tabla.completar();
+
+        int numUsos = datos.getInt();
+        for (int i = 0; i < numUsos; i++) {
+            String robot = leerTexto(datos);
+            String metodo = leerTexto(datos);
+            boolean tieneArgumento = datos.get() != 0;
+            int argumento = datos.getInt();
+            boolean asignacion = datos.get() != 0;
+            int linea = datos.getInt();
+            int columna = datos.getInt();
+            tabla.registrarUso(robot, new TablaSimbolo.UsoMetodo(metodo, tieneArgumento ? argumento : null,
+                    asignacion, linea - 1, columna - 1));
+        }
+
+        // Árbol sintáctico
+        int numNodos = datos.getInt();
+        byte[] tipos = new byte[numNodos];
+        byte[] metodos = new byte[numNodos];
+        int[] robots = new int[numNodos];
+        int[] valores = new int[numNodos];
+        long[] posiciones = new long[numNodos];
+        long[] posicionesMetodo = new long[numNodos];
+        long[] posicionesValor = new long[numNodos];
+        int[] fines = new int[numNodos];
+        for (int nodo = 0; nodo < numNodos; nodo++) {
+            tipos[nodo] = datos.get();
+            metodos[nodo] = datos.get();
+            robots[nodo] = datos.getInt();
+            valores[nodo] = datos.getInt();
+            posiciones[nodo] = datos.getLong();
+            posicionesMetodo[nodo] = datos.getLong();
+            posicionesValor[nodo] = datos.getLong();
+            fines[nodo] = datos.getInt();
+        }
+        String[] nombresArbol = new String[datos.getInt()];
+        for (int id = 0; id < nombresArbol.length; id++) {
+            nombresArbol[id] = leerTexto(datos);
+        }
+        Arbol arbol = new Arbol(tipos, metodos, robots, valores, posiciones, posicionesMetodo, posicionesValor,
+                fines, numNodos, nombresArbol);
+
+        ResultadoAnalisis resultado = new ResultadoAnalisis(numTokens, erroresLexicos, errores, tabla, arbol);
+        return new CacheAnalisis.Entrada(texto, tokens, resultado);
+    }
+
+    private static void escribirDiagnosticos(DataOutputStream salida, ArrayList<Diagnostico> diagnosticos)
+            throws IOException {
+        salida.writeInt(diagnosticos.size());
+        for (Diagnostico diagnostico : diagnosticos) {
+            escribirDiagnostico(salida, diagnostico);
+        }
+    }
+
+    private static void escribirDiagnostico(DataOutputStream salida, Diagnostico d) throws IOException {
+        salida.writeByte(d.getFase());
+        salida.writeByte(d.getSeveridad());
+        salida.writeShort(d.getCodigo());
+        salida.writeInt(d.getLinea());
+        salida.writeInt(d.getColumna());
+        salida.writeInt(d.getLongitud());
+        salida.writeInt(d.getN1());
+        salida.writeInt(d.getN2());
+        salida.writeInt(d.getN3());
+
+        // El dato puede ser un texto, un número, otro diagnóstico (el valor de un
+        // símbolo ERROR) o un nombre; los demás casos se guardan como texto
+        Object dato = d.getDato();
+        if (dato == null) {
+            salida.writeByte(DATO_NULO);
+        } else if (dato instanceof Integer) {
+            salida.writeByte(DATO_ENTERO);
+            salida.writeInt((Integer) dato);
+        } else if (dato instanceof Diagnostico) {
+            salida.writeByte(DATO_DIAGNOSTICO);
+            escribirDiagnostico(salida, (Diagnostico) dato);
+        } else {
+            salida.writeByte(DATO_TEXTO);
+            escribirTexto(salida, dato.toString());
+        }
+    }
+
+    private static ArrayList<Diagnostico> leerDiagnosticos(ByteBuffer datos) {
+        int cantidad = datos.getInt();
+        ArrayList<Diagnostico> diagnosticos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            diagnosticos.add(leerDiagnostico(datos));
+        }
+        return diagnosticos;
+    }
+
+    private static Diagnostico leerDiagnostico(ByteBuffer datos) {
+        byte fase = datos.get();
+        byte severidad = datos.get();
+        short codigo = datos.getShort();
+        int linea = datos.getInt();
+        int columna = datos.getInt();
+        int longitud = datos.getInt();
+        int n1 = datos.getInt();
+        int n2 = datos.getInt();
+        int n3 = datos.getInt();
+
+        Object dato;
+        byte tipoDato = datos.get();
+        switch (tipoDato) {
+            case DATO_NULO:
+                dato = null;
+                break;
+            case DATO_ENTERO:
+                dato = datos.getInt();
+                break;
+            case DATO_DIAGNOSTICO:
+                dato = leerDiagnostico(datos);
+                break;
+            case DATO_TEXTO:
+                dato = leerTexto(datos);
+                break;
+            default:
+                throw new IllegalStateException("Tipo de dato desconocido: " + tipoDato);
+        }
+        return new Diagnostico(fase, severidad, codigo, linea, columna, longitud, dato, n1, n2, n3);
+    }
+
+    private static void escribirPosiciones(DataOutputStream salida, long[] posiciones) throws IOException {
+        salida.writeInt(posiciones.length);
+        for (long posicion : posiciones) {
+            salida.writeLong(posicion);
+        }
+    }
+
+    private static long[] leerPosiciones(ByteBuffer datos) {
+        long[] posiciones = new long[datos.getInt()];
+        for (int i = 0; i < posiciones.length; i++) {
+            posiciones[i] = datos.getLong();
+        }
+        return posiciones;
+    }
+
+    // Textos como longitud y caracteres UTF-16; -1 representa null
+    private static void escribirTexto(DataOutputStream salida, String texto) throws IOException {
+        if (texto == null) {
+            salida.writeInt(-1);
+            return;
+        }
+        salida.writeInt(texto.length());
+        salida.writeChars(texto);
+    }
+
+    private static String leerTexto(ByteBuffer datos) {
+        int longitud = datos.getInt();
+        if (longitud < 0) {
+            return null;
+        }
+        char[] caracteres = new char[longitud];
+        for (int i = 0; i < longitud; i++) {
+            caracteres[i] = datos.getChar();
+        }
+        return new String(caracteres);
+    }
+}
@@ -0,0 +1,199 @@
+import java.util.Arrays;
+
+/**
+ * Construye un {@link Arbol} a partir de las acciones del parser.
+ *
+ * El parser reduce primero las instrucciones del cuerpo de un bloque y después
+ * el bloque, así que aquí los nodos se añaden en postorden; cada nodo guarda
+ * dónde empieza su subárbol. {@link #construir()} los reordena en el preorden
+ * que usa el árbol. Las líneas y columnas se reciben como las entrega el
+ * lexer (comenzando en 0).
+ */
+public class ConstructorArbol {
+
+    private byte[] tipos = new byte[64];
+    private byte[] metodos = new byte[64];
+    private int[] robots = new int[64];
+    private int[] valores = new int[64];
+    private long[] posiciones = new long[64];
+    private long[] posicionesMetodo = new long[64];
+    private long[] posicionesValor = new long[64];
+    private int[] inicios = new int[64]; // Primer nodo del subárbol (en postorden)
+    private int numNodos = 0;
+
+    // Pila de raíces pendientes mientras se construye el árbol
+    private int[] pendientes;
+    private int numPendientes;
+
+    // Nombres de robot vistos, indexados por su id
+    private String[] nombres = new String[16];
+
+    /**
+     * Añade la declaración de un robot
+     *
+     * @return Índice del nodo
+     */
+    public int declaracion(Nombre robot, int linea, int columna) {
+        int nodo = agregar(Arbol.DECLARACION, 0, Arbol.SIN_VALOR, -1, -1, -1, -1);
+        asignarRobot(nodo, robot, linea, columna);
+        return nodo;
+    }
+
+    /**
+     * Añade una asignación (r1.base = 90); el robot se indica después con
+     * {@link #asignarRobot}
+     *
+     * @return Índice del nodo
+     */
+    public int asignacion(int metodo, int lineaMetodo, int columnaMetodo, int valor, int lineaValor, int columnaValor) {
+        return agregar(Arbol.ASIGNACION, metodo, valor, lineaMetodo, columnaMetodo, lineaValor, columnaValor);
+    }
+
+    /**
+     * Añade una llamada con argumento (r1.base(90))
+     *
+     * @return Índice del nodo
+     */
+    public int llamada(int metodo, int lineaMetodo, int columnaMetodo, int valor, int lineaValor, int columnaValor) {
+        return agregar(Arbol.LLAMADA, metodo, valor, lineaMetodo, columnaMetodo, lineaValor, columnaValor);
+    }
+
+    /**
+     * Añade una llamada sin argumento (r1.iniciar, r1.abrirGarra())
+     *
+     * @return Índice del nodo
+     */
+    public int llamada(int metodo, int lineaMetodo, int columnaMetodo) {
+        return agregar(Arbol.LLAMADA, metodo, Arbol.SIN_VALOR, lineaMetodo, columnaMetodo, -1, -1);
+    }
+
+    /**
+     * Añade un bloque r1.repetir(n) { ... } cuyo cuerpo son los nodos añadidos
+     * desde el primer nodo del cuerpo
+     *
+     * @param cuerpo Primer nodo del cuerpo, o null si el cuerpo no tiene nodos
+     * @return Índice del nodo
+     */
+    public int repeticion(int lineaMetodo, int columnaMetodo, int veces, int lineaValor, int columnaValor,
+            Integer cuerpo) {
+        int nodo = agregar(Arbol.REPETICION, sym.REPETIR, veces, lineaMetodo, columnaMetodo, lineaValor, columnaValor);
+        if (cuerpo != null) {
+            inicios[nodo] = cuerpo;
+        }
+        return nodo;
+    }
+
+    /**
+     * Indica el robot sobre el que actúa un nodo
+     */
+    public void asignarRobot(int nodo, Nombre robot, int linea, int columna) {
+        int id = robot.getId();
+        if (id >= nombres.length) {
+            nombres = Arrays.copyOf(nombres, Math.max(nombres.length * 2, id + 1));
+        }
+        nombres[id] = robot.getTexto();
+        robots[nodo] = id;
+        posiciones[nodo] = Arbol.posicion(linea + 1, columna + 1);
+    }
+
+    /**
+     * Primer nodo del subárbol de un nodo (el propio nodo, salvo en las
+     * repeticiones con cuerpo)
+     */
+    public int inicioSubarbol(int nodo) {
+        return inicios[nodo];
+    }
+
+    /**
+     * Uso de método equivalente a un nodo, para la tabla de símbolos
+     */
+    public TablaSimbolo.UsoMetodo crearUso(int nodo) {
+        Integer argumento = valores[nodo] != Arbol.SIN_VALOR ? valores[nodo] : null;
+        long posicion = posicionesMetodo[nodo];
+        return new TablaSimbolo.UsoMetodo(Arbol.nombreMetodo(metodos[nodo]), argumento,
+                tipos[nodo] == Arbol.ASIGNACION, Arbol.linea(posicion) - 1, Arbol.columna(posicion) - 1);
+    }
+
+    /**
+     * Crea el árbol con los nodos añadidos hasta ahora, en preorden
+     *
+     * @return Árbol inmutable
+     */
+    public Arbol construir() {
+        byte[] nTipos = new byte[numNodos];
+        byte[] nMetodos = new byte[numNodos];
+        int[] nRobots = new int[numNodos];
+        int[] nValores = new int[numNodos];
+        long[] nPosiciones = new long[numNodos];
+        long[] nPosicionesMetodo = new long[numNodos];
+        long[] nPosicionesValor = new long[numNodos];
+        int[] nFines = new int[numNodos];
+
+        // Raíces pendientes; se apilan de la última a la primera para sacarlas
+        // en el orden del código, y los hijos de un nodo se apilan encima de
+        // sus hermanos para que salgan justo después de él
+        pendientes = new int[16];
+        numPendientes = 0;
+        apilarRaices(0, numNodos);
+
+        int destino = 0;
+        while (numPendientes > 0) {
+            int nodo = pendientes[--numPendientes];
+            nTipos[destino] = tipos[nodo];
+            nMetodos[destino] = metodos[nodo];
+            nRobots[destino] = robots[nodo];
+            nValores[destino] = valores[nodo];
+            nPosiciones[destino] = posiciones[nodo];
+            nPosicionesMetodo[destino] = posicionesMetodo[nodo];
+            nPosicionesValor[destino] = posicionesValor[nodo];
+            // El subárbol ocupa los mismos nodos en preorden que en postorden
+            nFines[destino] = destino + (nodo - inicios[nodo] + 1);
+            destino++;
+
+            apilarRaices(inicios[nodo], nodo);
+        }
+
+        pendientes = null;
+        return new Arbol(nTipos, nMetodos, nRobots, nValores, nPosiciones, nPosicionesMetodo, nPosicionesValor,
+                nFines, numNodos, nombres.clone());
+    }
+
+    /**
+     * Apila las raíces de los subárboles del rango [desde, hasta) en
+     * postorden, empezando por la última
+     */
+    private void apilarRaices(int desde, int hasta) {
+        int nodo = hasta - 1;
+        while (nodo >= desde) {
+            if (numPendientes == pendientes.length) {
+                pendientes = Arrays.copyOf(pendientes, numPendientes * 2);
+            }
+            pendientes[numPendientes++] = nodo;
+            nodo = inicios[nodo] - 1;
+        }
+    }
+
+    private int agregar(byte tipo, int metodo, int valor, int lineaMetodo, int columnaMetodo, int lineaValor,
+            int columnaValor) {
+        if (numNodos == tipos.length) {
+            int capacidad = numNodos * 2;
+            tipos = Arrays.copyOf(tipos, capacidad);
+            metodos = Arrays.copyOf(metodos, capacidad);
+            robots = Arrays.copyOf(robots, capacidad);
+            valores = Arrays.copyOf(valores, capacidad);
+            posiciones = Arrays.copyOf(posiciones, capacidad);
+            posicionesMetodo = Arrays.copyOf(posicionesMetodo, capacidad);
+            posicionesValor = Arrays.copyOf(posicionesValor, capacidad);
+            inicios = Arrays.copyOf(inicios, capacidad);
+        }
+        int nodo = numNodos++;
+        tipos[nodo] = tipo;
+        metodos[nodo] = (byte) metodo;
+        robots[nodo] = -1; // Hasta que se indique con asignarRobot
+        valores[nodo] = valor;
+        posicionesMetodo[nodo] = Arbol.posicion(lineaMetodo + 1, columnaMetodo + 1);
+        posicionesValor[nodo] = Arbol.posicion(lineaValor + 1, columnaValor + 1);
+        inicios[nodo] = nodo;
+        return nodo;
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Diagnóstico (error o advertencia) producido durante el análisis.
+ *
+ * Solo guarda datos primitivos: fase, severidad, código, posición y los
+ * argumentos del mensaje. El texto se construye al pedirlo con
+ * {@link #getMensaje()}, así que los diagnósticos que nadie muestra no cuestan
+ * formateo de cadenas.
+ */
+public final class Diagnostico {
+
+    // Fases del análisis
+    public static final byte LEXICO = 0;
+    public static final byte SINTACTICO = 1;
+    public static final byte SEMANTICO = 2;
+
+    // Severidades
+    public static final byte ERROR = 0;
+    public static final byte ADVERTENCIA = 1;
+
+    // Códigos de error léxico
+    public static final short SIMBOLO_NO_RECONOCIDO = 1;
+    public static final short SIMBOLO_DESPUES_PUNTO = 2;
+    public static final short NUMERO_FUERA_DE_RANGO = 3;
+    public static final short METODO_DESCONOCIDO = 4;
+    public static final short OPERADOR_NO_PERMITIDO = 5;
+
+    // Códigos de error sintáctico
+    public static final short SIMBOLO_INESPERADO = 10;
+    public static final short SIMBOLO_INESPERADO_FATAL = 11;
+    public static final short RECUPERACION = 12;
+
+    // Códigos de error semántico
+    public static final short ROBOT_YA_DECLARADO = 20;
+    public static final short ROBOT_NO_DECLARADO = 21;
+    public static final short VALOR_FUERA_DE_RANGO = 22;
+    public static final short REPETICIONES_NO_POSITIVAS = 23;
+
+    // Error inesperado del propio analizador
+    public static final short ERROR_INTERNO = 30;
+
+    private final byte fase;
+    private final byte severidad;
+    private final short codigo;
+    private final int linea; // Comenzando en 1 (0 si no tiene posición)
+    private final int columna; // Comenzando en 1 (0 si no tiene posición)
+    private final int longitud; // Caracteres afectados (0 si se desconoce)
+    private final Object dato; // Texto o valor del mensaje, según el código
+    private final int n1, n2, n3; // Argumentos numéricos del mensaje, según el código
+
+    /**
+     * Crea un diagnóstico de error con un argumento de texto
+     *
+     * @param fase     Fase del análisis
+     * @param codigo   Código del diagnóstico
+     * @param linea    Línea (comenzando en 1, 0 si no tiene posición)
+     * @param columna  Columna (comenzando en 1, 0 si no tiene posición)
+     * @param longitud Caracteres afectados (0 si se desconoce)
+     * @param dato     Texto o valor que aparece en el mensaje
+     */
+    public Diagnostico(byte fase, short codigo, int linea, int columna, int longitud, Object dato) {
+        this(fase, ERROR, codigo, linea, columna, longitud, dato, 0, 0, 0);
+    }
+
+    /**
+     * Crea un diagnóstico con todos sus datos
+     *
+     * @param fase      Fase del análisis
+     * @param severidad Severidad
+     * @param codigo    Código del diagnóstico
+     * @param linea     Línea (comenzando en 1, 0 si no tiene posición)
+     * @param columna   Columna (comenzando en 1, 0 si no tiene posición)
+     * @param longitud  Caracteres afectados (0 si se desconoce)
+     * @param dato      Texto o valor que aparece en el mensaje
+     * @param n1        Primer argumento numérico
+     * @param n2        Segundo argumento numérico
+     * @param n3        Tercer argumento numérico
+     */
+    public Diagnostico(byte fase, byte severidad, short codigo, int linea, int columna, int longitud, Object dato,
+            int n1, int n2, int n3) {
+        this.fase = fase;
+        this.severidad = severidad;
+        this.codigo = codigo;
+        this.linea = linea;
+        this.columna = columna;
+        this.longitud = longitud;
+        this.dato = dato;
+        this.n1 = n1;
+        this.n2 = n2;
+        this.n3 = n3;
+    }
+
+    // Getters
+    public byte getFase() {
+        return fase;
+    }
+
+    public byte getSeveridad() {
+        return severidad;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+
+    public int getLinea() {
+        return linea;
+    }
+
+    public int getColumna() {
+        return columna;
+    }
+
+    public int getLongitud() {
+        return longitud;
+    }
+
+    public Object getDato() {
+        return dato;
+    }
+
+    public int getN1() {
+        return n1;
+    }
+
+    public int getN2() {
+        return n2;
+    }
+
+    public int getN3() {
+        return n3;
+    }
+
+    /**
+     * Indica si el diagnóstico señala una posición del texto
+     *
+     * @return true si tiene línea y columna
+     */
+    public boolean tienePosicion() {
+        return linea > 0;
+    }
+
+    /**
+     * Descripción del problema, sin la fase ni la posición
+     *
+     * @return Descripción del diagnóstico
+     */
+    public String getDescripcion() {
+        switch (codigo) {
+            case SIMBOLO_NO_RECONOCIDO:
+                return "Símbolo no reconocido: " + dato;
+            case SIMBOLO_DESPUES_PUNTO:
+                return "Símbolo inesperado después de punto: " + dato;
+            case NUMERO_FUERA_DE_RANGO:
+                return "Número fuera de rango: " + dato;
+            case METODO_DESCONOCIDO:
+                return "Método o propiedad desconocida: " + dato;
+            case OPERADOR_NO_PERMITIDO:
+                return String.valueOf(dato);
+            case SIMBOLO_INESPERADO:
+            case SIMBOLO_INESPERADO_FATAL:
+                // Los errores léxicos llegan al parser como símbolo con su diagnóstico
+                Object valor = dato instanceof Diagnostico ? ((Diagnostico) dato).getDescripcion() : dato;
+                return "Símbolo inesperado \"" + valor + "\"";
+            case RECUPERACION:
+                return "Error de sintaxis en la instrucción, intentando recuperarse...";
+            case ROBOT_YA_DECLARADO:
+                return "Robot '" + dato + "' ya declarado anteriormente";
+            case ROBOT_NO_DECLARADO:
+                return "Robot '" + dato + "' no declarado";
+            case VALOR_FUERA_DE_RANGO:
+                return "Valor fuera de rango para '" + dato + "': " + n1 + " (rango permitido: [" + n2 + ".." + n3
+                        + "])";
+            case REPETICIONES_NO_POSITIVAS:
+                return "El número de repeticiones debe ser positivo, se encontró: " + n1;
+            default:
+                return String.valueOf(dato);
+        }
+    }
+
+    /**
+     * Mensaje completo para mostrar al usuario; se construye en cada llamada
+     *
+     * @return Mensaje del diagnóstico
+     */
+    public String getMensaje() {
+        if (codigo == ERROR_INTERNO) {
+            return (fase == LEXICO ? "Error durante el escaneo léxico: " : "Error durante el análisis sintáctico: ")
+                    + dato;
+        }
+        if (codigo == RECUPERACION) {
+            return getDescripcion();
+        }
+
+        String prefijo;
+        switch (fase) {
+            case LEXICO:
+                prefijo = "Error léxico";
+                break;
+            case SINTACTICO:
+                prefijo = codigo == SIMBOLO_INESPERADO_FATAL ? "Error sintáctico fatal" : "Error sintáctico";
+                break;
+            default:
+                prefijo = "Error semántico";
+                break;
+        }
+        return prefijo + " en línea " + linea + ", columna " + columna + ": " + getDescripcion();
+    }
+
+    @Override
+    public String toString() {
+        return getMensaje();
+    }
+}
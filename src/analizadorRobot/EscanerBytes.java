@@ -0,0 +1,434 @@
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Escáner que trabaja directamente sobre los bytes UTF-8 del programa, sin
+ * pasar por un Reader ni copiar el texto a un buffer de caracteres.
+ *
+ * El lenguaje es ASCII, así que las reglas de Lexer.flex se reconocen sobre
+ * los bytes; solo se decodifican los bytes no ASCII, que siempre forman
+ * tokens de error de un carácter. Entrega los mismos símbolos que
+ * {@link Lexer} (igual terminal, línea, columna y valor) y los mismos
+ * diagnósticos: las columnas, las posiciones y las longitudes se cuentan en
+ * caracteres UTF-16, como en JFlex. Las secuencias UTF-8 no válidas se leen
+ * como U+FFFD, igual que al decodificar el archivo con un InputStreamReader.
+ */
+public class EscanerBytes implements Scanner {
+
+    // Clases de los bytes ASCII
+    private static final byte OTRO = 0;
+    private static final byte LETRA = 1;
+    private static final byte DIGITO = 2;
+    private static final byte ESPACIO = 3; // Espacio y tabulador
+    private static final byte SALTO = 4; // \n, \r y \f (espacios que cambian de línea)
+    private static final byte SIMBOLO = 5; // Delimitadores y operadores de un carácter
+
+    private static final byte[] CLASES = new byte[128];
+
+    // Terminal, tipo de token y valor de cada delimitador u operador
+    private static final int[] SIMBOLOS = new int[128];
+    private static final byte[] TIPOS = new byte[128];
+    private static final String[] TEXTOS = new String[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            CLASES[c] = LETRA;
+            CLASES[c - 'a' + 'A'] = LETRA;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            CLASES[c] = DIGITO;
+        }
+        CLASES[' '] = ESPACIO;
+        CLASES['\t'] = ESPACIO;
+        CLASES['\n'] = SALTO;
+        CLASES['\r'] = SALTO;
+        CLASES['\f'] = SALTO;
+
+        simbolo('.', sym.PUNTO, BufferTokens.DELIMITADOR);
+        simbolo('=', sym.IGUAL, BufferTokens.OPERADOR);
+        simbolo('(', sym.PARENTESIS_A, BufferTokens.DELIMITADOR);
+        simbolo(')', sym.PARENTESIS_C, BufferTokens.DELIMITADOR);
+        simbolo('{', sym.LLAVE_A, BufferTokens.DELIMITADOR);
+        simbolo('}', sym.LLAVE_C, BufferTokens.DELIMITADOR);
+        simbolo(',', sym.COMA, BufferTokens.DELIMITADOR);
+        simbolo(';', sym.PUNTO_COMA, BufferTokens.DELIMITADOR);
+        simbolo('+', sym.ERROR, BufferTokens.OPERADOR);
+        simbolo('-', sym.ERROR, BufferTokens.OPERADOR);
+        simbolo('*', sym.ERROR, BufferTokens.OPERADOR);
+        simbolo('/', sym.ERROR, BufferTokens.OPERADOR);
+    }
+
+    private static void simbolo(char c, int terminal, byte tipo) {
+        CLASES[c] = SIMBOLO;
+        SIMBOLOS[c] = terminal;
+        TIPOS[c] = tipo;
+        TEXTOS[c] = String.valueOf(c);
+    }
+
+    // Métodos y propiedades que se reconocen después de un punto
+    private static final String[] METODOS = { "iniciar", "detener", "base", "cuerpo", "garra", "velocidad",
+            "abrirGarra", "cerrarGarra", "repetir" };
+    private static final int[] SIMBOLOS_METODO = { sym.INICIAR, sym.DETENER, sym.BASE, sym.CUERPO, sym.GARRA,
+            sym.VELOCIDAD, sym.ABRIR_GARRA, sym.CERRAR_GARRA, sym.REPETIR };
+    private static final byte[] TIPOS_METODO = { BufferTokens.METODO, BufferTokens.METODO, BufferTokens.PROPIEDAD,
+            BufferTokens.PROPIEDAD, BufferTokens.PROPIEDAD, BufferTokens.PROPIEDAD, BufferTokens.METODO,
+            BufferTokens.METODO, BufferTokens.METODO };
+
+    // Bytes no ASCII que se decodifican de una vez como máximo
+    private static final int MAX_NO_ASCII = 4096;
+
+    private final ByteBuffer entrada;
+    private int posicion; // Byte siguiente a leer
+    private final int fin;
+
+    // Posición actual como la cuenta JFlex: caracteres desde el inicio, línea y
+    // columna (desde 0)
+    private long caracter = 0;
+    private int linea = 0;
+    private int columna = 0;
+
+    private boolean despuesDePunto = false; // Estado AFTER_DOT de Lexer.flex
+
+    // Caracteres decodificados de la última secuencia de bytes no ASCII, que se
+    // entregan uno a uno como tokens
+    private final CharBuffer pendientes = CharBuffer.allocate(MAX_NO_ASCII);
+    private CharsetDecoder decodificador;
+
+    private final TablaNombres nombres = new TablaNombres();
+    private char[] identificador = new char[32];
+    private BufferTokens tokens; // null si no se guardan los tokens
+    private ReceptorDiagnosticos receptor;
+
+    /**
+     * Escáner sobre los bytes restantes de un buffer (por ejemplo, un archivo
+     * mapeado en memoria)
+     *
+     * @param entrada Texto del programa en UTF-8
+     */
+    public EscanerBytes(ByteBuffer entrada) {
+        this.entrada = entrada;
+        this.posicion = entrada.position();
+        this.fin = entrada.limit();
+        pendientes.flip();
+    }
+
+    /**
+     * Escáner sobre un arreglo de bytes
+     *
+     * @param entrada Texto del programa en UTF-8
+     */
+    public EscanerBytes(byte[] entrada) {
+        this(ByteBuffer.wrap(entrada));
+    }
+
+    // Método para indicar el buffer donde se añaden los tokens (sin texto
+    // fuente, como el de Lexer cuando lee de un Reader)
+    public void setBuffer(BufferTokens buffer) {
+        tokens = buffer;
+    }
+
+    // Método para indicar a quién se reportan los errores léxicos
+    public void setReceptor(ReceptorDiagnosticos receptor) {
+        this.receptor = receptor;
+    }
+
+    // Método para obtener la tabla de nombres internados
+    public TablaNombres getNombres() {
+        return nombres;
+    }
+
+    @Override
+    public Symbol next_token() {
+        while (true) {
+            if (pendientes.hasRemaining()) {
+                return noAscii();
+            }
+            if (posicion >= fin) {
+                return new Symbol(sym.EOF);
+            }
+
+            int c = entrada.get(posicion);
+            if (c < 0) {
+                decodificarNoAscii();
+                continue;
+            }
+
+            switch (CLASES[c]) {
+                case ESPACIO:
+                    // Después de punto el "." de Lexer.flex va antes que {WhiteSpace}:
+                    // un espacio o tabulador es un error y solo los saltos de línea
+                    // se ignoran
+                    if (despuesDePunto) {
+                        return errorDespuesDePunto(c);
+                    }
+                    posicion++;
+                    caracter++;
+                    columna++;
+                    continue;
+                case SALTO:
+                    posicion++;
+                    caracter++;
+                    // \r\n es un solo salto de línea
+                    if (c == '\r' && posicion < fin && entrada.get(posicion) == '\n') {
+                        posicion++;
+                        caracter++;
+                    }
+                    linea++;
+                    columna = 0;
+                    continue;
+                case LETRA:
+                    return identificador();
+                case DIGITO:
+                    if (!despuesDePunto) {
+                        return numero();
+                    }
+                    return errorDespuesDePunto(c);
+                case SIMBOLO:
+                    if (despuesDePunto) {
+                        return errorDespuesDePunto(c);
+                    }
+                    if (c == '.' && posicion + 1 < fin && esDigito(posicion + 1)) {
+                        return numero();
+                    }
+                    return simbolo(c);
+                default:
+                    // U+000B no lo acepta el "." de AFTER_DOT y además cambia de línea
+                    if (c == 0x0B) {
+                        return noReconocido(String.valueOf((char) c), 1, true);
+                    }
+                    if (despuesDePunto) {
+                        return errorDespuesDePunto(c);
+                    }
+                    return noReconocido(String.valueOf((char) c), 1, false);
+            }
+        }
+    }
+
+    // Delimitador u operador de un carácter
+    private Symbol simbolo(int c) {
+        int terminal = SIMBOLOS[c];
+        if (c == '.') {
+            despuesDePunto = true;
+        }
+        if (terminal == sym.ERROR) {
+            Diagnostico d = error(Diagnostico.OPERADOR_NO_PERMITIDO, String.valueOf((char) c), 1);
+            return token(TIPOS[c], sym.ERROR, 1, d);
+        }
+        return token(TIPOS[c], terminal, 1, TEXTOS[c]);
+    }
+
+    // Identificador, palabra reservada o método (después de punto)
+    private Symbol identificador() {
+        int inicio = posicion;
+        int i = posicion + 1;
+        while (i < fin) {
+            int c = entrada.get(i);
+            if (c < 0 || (CLASES[c] != LETRA && CLASES[c] != DIGITO && c != '_')) {
+                break;
+            }
+            i++;
+        }
+        int longitud = i - inicio;
+        if (longitud > identificador.length) {
+            identificador = new char[Math.max(longitud, identificador.length * 2)];
+        }
+        for (int k = 0; k < longitud; k++) {
+            identificador[k] = (char) entrada.get(inicio + k);
+        }
+
+        if (despuesDePunto) {
+            despuesDePunto = false;
+            for (int m = 0; m < METODOS.length; m++) {
+                if (igual(METODOS[m], longitud)) {
+                    return token(TIPOS_METODO[m], SIMBOLOS_METODO[m], longitud, METODOS[m]);
+                }
+            }
+            Diagnostico d = error(Diagnostico.METODO_DESCONOCIDO, new String(identificador, 0, longitud), longitud);
+            return token(BufferTokens.DESCONOCIDO, sym.ERROR, longitud, d);
+        }
+
+        if (igual("Robot", longitud)) {
+            return token(BufferTokens.PALABRA_RESERVADA, sym.ROBOT, longitud, "Robot");
+        }
+        return token(BufferTokens.IDENTIFICADOR, sym.IDENTIFICADOR, longitud,
+                nombres.internar(identificador, 0, longitud));
+    }
+
+    private boolean igual(String palabra, int longitud) {
+        if (palabra.length() != longitud) {
+            return false;
+        }
+        for (int k = 0; k < longitud; k++) {
+            if (identificador[k] != palabra.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Número entero o con decimales, con la coincidencia más larga de
+    // IntNumber = 0 | [1-9][0-9]* y FloatNumber = [0-9]+ \. [0-9]* | \. [0-9]+
+    private Symbol numero() {
+        int inicio = posicion;
+        int i = posicion;
+        while (i < fin && esDigito(i)) {
+            i++;
+        }
+        if (i < fin && entrada.get(i) == '.') {
+            int punto = i++;
+            while (i < fin && esDigito(i)) {
+                i++;
+            }
+            return token(BufferTokens.NUMERO, sym.NUMERO, i - inicio, flotante(inicio, punto, i));
+        }
+
+        // Sin punto, un cero inicial es un número por sí solo
+        if (entrada.get(inicio) == '0') {
+            i = inicio + 1;
+        }
+        int longitud = i - inicio;
+        int valor = 0;
+        for (int k = inicio; k < i; k++) {
+            int digito = entrada.get(k) - '0';
+            if (valor > (Integer.MAX_VALUE - digito) / 10) {
+                Diagnostico d = error(Diagnostico.NUMERO_FUERA_DE_RANGO, ascii(inicio, longitud), longitud);
+                return token(BufferTokens.ERROR_NUMERO, sym.ERROR, longitud, d);
+            }
+            valor = valor * 10 + digito;
+        }
+        return token(BufferTokens.NUMERO, sym.NUMERO, longitud, valor);
+    }
+
+    // Redondea un número con decimales igual que Lexer, sin crear el lexema
+    private int flotante(int inicio, int punto, int finNumero) {
+        if (!Numeros.admiteRedondeoRapido(punto - inicio, finNumero - punto - 1)) {
+            return Numeros.redondear(ascii(inicio, finNumero - inicio));
+        }
+
+        int entero = 0;
+        for (int i = inicio; i < punto; i++) {
+            entero = entero * 10 + (entrada.get(i) - '0');
+        }
+        long numerador = 0;
+        long escala = 1;
+        for (int i = punto + 1; i < finNumero; i++) {
+            numerador = numerador * 10 + (entrada.get(i) - '0');
+            escala *= 10;
+        }
+
+        int valor = Numeros.redondear(entero, numerador, escala);
+        return valor != Numeros.SIN_REDONDEO_RAPIDO ? valor : Numeros.redondear(ascii(inicio, finNumero - inicio));
+    }
+
+    private boolean esDigito(int i) {
+        int c = entrada.get(i);
+        return c >= '0' && c <= '9';
+    }
+
+    private String ascii(int inicio, int longitud) {
+        char[] texto = new char[longitud];
+        for (int k = 0; k < longitud; k++) {
+            texto[k] = (char) entrada.get(inicio + k);
+        }
+        return new String(texto);
+    }
+
+    // Cualquier carácter ASCII después de punto que no empieza un identificador
+    private Symbol errorDespuesDePunto(int c) {
+        despuesDePunto = false;
+        Diagnostico d = error(Diagnostico.SIMBOLO_DESPUES_PUNTO, String.valueOf((char) c), 1);
+        return token(BufferTokens.ERROR_DESPUES_PUNTO, sym.ERROR, 1, d);
+    }
+
+    // Carácter que no reconoce ninguna regla; los separadores de línea que no
+    // son espacios (U+000B, U+0085, U+2028 y U+2029) cambian además de línea
+    private Symbol noReconocido(String texto, int bytes, boolean saltoDeLinea) {
+        Diagnostico d = error(Diagnostico.SIMBOLO_NO_RECONOCIDO, texto, texto.length());
+        Symbol s = token(BufferTokens.ERROR, sym.ERROR, bytes, texto.length(), d);
+        if (saltoDeLinea) {
+            linea++;
+            columna = 0;
+        }
+        return s;
+    }
+
+    // Decodifica la secuencia de bytes no ASCII que empieza en la posición actual
+    private void decodificarNoAscii() {
+        int inicio = posicion;
+        int limite = inicio;
+        while (limite < fin && limite - inicio < MAX_NO_ASCII && entrada.get(limite) < 0) {
+            limite++;
+        }
+        if (decodificador == null) {
+            decodificador = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        // Si la secuencia sigue después del límite, la última secuencia incompleta
+        // se deja para la siguiente vez
+        boolean completa = limite == fin || entrada.get(limite) >= 0;
+        ByteBuffer bytes = entrada.duplicate();
+        bytes.position(inicio).limit(limite);
+        pendientes.clear();
+        decodificador.reset();
+        decodificador.decode(bytes, pendientes, completa);
+        if (completa) {
+            decodificador.flush(pendientes);
+        }
+        pendientes.flip();
+        posicion = bytes.position();
+    }
+
+    // Siguiente carácter decodificado (no ASCII) como token de error
+    private Symbol noAscii() {
+        char c = pendientes.get();
+        String texto;
+        if (Character.isHighSurrogate(c) && pendientes.hasRemaining()) {
+            texto = new String(new char[] { c, pendientes.get() });
+        } else {
+            texto = String.valueOf(c);
+        }
+
+        if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+            return noReconocido(texto, 0, true);
+        }
+        if (despuesDePunto) {
+            despuesDePunto = false;
+            Diagnostico d = error(Diagnostico.SIMBOLO_DESPUES_PUNTO, texto, texto.length());
+            return token(BufferTokens.ERROR_DESPUES_PUNTO, sym.ERROR, 0, texto.length(), d);
+        }
+        return noReconocido(texto, 0, false);
+    }
+
+    // Token ASCII: avanza tantos caracteres como bytes
+    private Symbol token(byte tipo, int simbolo, int longitud, Object valor) {
+        return token(tipo, simbolo, longitud, longitud, valor);
+    }
+
+    // Crea el símbolo en la posición actual y avanza sobre el token
+    private Symbol token(byte tipo, int simbolo, int bytes, int longitud, Object valor) {
+        if (tokens != null) {
+            tokens.agregar(tipo, simbolo, (int) caracter, longitud, linea + 1, columna + 1);
+        }
+        Symbol s = new Symbol(simbolo, linea, columna, valor);
+        posicion += bytes;
+        caracter += longitud;
+        columna += longitud;
+        return s;
+    }
+
+    private Diagnostico error(short codigo, String texto, int longitud) {
+        Diagnostico diagnostico = new Diagnostico(Diagnostico.LEXICO, codigo, linea + 1, columna + 1, longitud, texto);
+        if (receptor != null) {
+            receptor.reportar(diagnostico);
+        }
+        return diagnostico;
+    }
+}
@@ -0,0 +1,96 @@
+import java.util.concurrent.CancellationException;
+
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Escáner que entrega al parser los tokens ya guardados en un
+ * {@link BufferTokens}, en lugar de volver a analizar el texto. Así el mismo
+ * análisis léxico sirve para la tabla de tokens y para el análisis
+ * sintáctico.
+ *
+ * Los símbolos son los mismos que entrega {@link Lexer}: igual terminal,
+ * posición y valor.
+ */
+public class EscanerTokens implements Scanner {
+
+    // Cada cuántos tokens se comprueba si se canceló el análisis
+    private static final int INTERVALO_CANCELACION = 1024;
+
+    // Valor de los símbolos fijos, indexado por terminal (null si depende del texto)
+    private static final String[] VALORES = new String[sym.terminalNames.length];
+
+    static {
+        VALORES[sym.ROBOT] = "Robot";
+        VALORES[sym.INICIAR] = "iniciar";
+        VALORES[sym.DETENER] = "detener";
+        VALORES[sym.BASE] = "base";
+        VALORES[sym.CUERPO] = "cuerpo";
+        VALORES[sym.GARRA] = "garra";
+        VALORES[sym.VELOCIDAD] = "velocidad";
+        VALORES[sym.ABRIR_GARRA] = "abrirGarra";
+        VALORES[sym.CERRAR_GARRA] = "cerrarGarra";
+        VALORES[sym.REPETIR] = "repetir";
+        VALORES[sym.PUNTO] = ".";
+        VALORES[sym.IGUAL] = "=";
+        VALORES[sym.PARENTESIS_A] = "(";
+        VALORES[sym.PARENTESIS_C] = ")";
+        VALORES[sym.LLAVE_A] = "{";
+        VALORES[sym.LLAVE_C] = "}";
+        VALORES[sym.COMA] = ",";
+        VALORES[sym.PUNTO_COMA] = ";";
+    }
+
+    private final BufferTokens tokens;
+    private int siguiente = 0; // Índice del próximo token a entregar
+    private final TablaNombres nombres = new TablaNombres(); // Identificadores internados
+
+    /**
+     * @param tokens Tokens a entregar; el buffer debe tener texto fuente
+     */
+    public EscanerTokens(BufferTokens tokens) {
+        this.tokens = tokens;
+    }
+
+    @Override
+    public Symbol next_token() {
+        if (siguiente >= tokens.size()) {
+            // Igual que el fin de archivo de JFlex con %cup
+            return new Symbol(sym.EOF);
+        }
+
+        int i = siguiente++;
+        if (i % INTERVALO_CANCELACION == INTERVALO_CANCELACION - 1 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Análisis cancelado");
+        }
+
+        int simbolo = tokens.getSimbolo(i);
+        Object valor;
+        switch (simbolo) {
+            case sym.IDENTIFICADOR:
+                valor = nombres.internar(tokens.getFuente(), tokens.getInicio(i), tokens.getFin(i));
+                break;
+            case sym.NUMERO:
+                valor = valorNumero(tokens.getLexema(i));
+                break;
+            case sym.ERROR:
+                valor = tokens.getDiagnostico(i);
+                break;
+            default:
+                valor = VALORES[simbolo];
+                break;
+        }
+        return new Symbol(simbolo, tokens.getLinea(i) - 1, tokens.getColumna(i) - 1, valor);
+    }
+
+    /**
+     * Valor de un número: los enteros tal cual (el lexer ya descartó los que no
+     * caben en un int) y los decimales redondeados, como en Lexer.flex
+     */
+    private static Integer valorNumero(String lexema) {
+        if (lexema.indexOf('.') < 0) {
+            return Integer.valueOf(lexema);
+        }
+        return Math.round(Float.parseFloat(lexema));
+    }
+}
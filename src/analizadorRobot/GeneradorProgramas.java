@@ -0,0 +1,318 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generador determinista de programas de robots para pruebas de carga.
+ *
+ * Con la misma semilla y la misma configuración genera siempre el mismo
+ * texto. Los programas siguen la gramática de Parser.cup y, según la
+ * configuración, incluyen valores fuera de rango, instrucciones erróneas
+ * (sintácticas y de robots no declarados o repetidos) y caracteres no
+ * reconocidos. El texto se escribe instrucción por instrucción, así que el
+ * tamaño del programa no depende de la memoria disponible.
+ *
+ * Uso: GeneradorProgramas [opciones] salida
+ *
+ * Opciones: --semilla N, --robots N, --instrucciones N, --tamano BYTES,
+ * --profundidad N, --fuera-de-rango P, --errores P, --basura P y
+ * --archivos N (con esta última la salida es un directorio con N programas)
+ */
+public class GeneradorProgramas {
+
+    private static final String[] METODOS_VALOR = { "base", "cuerpo", "garra", "velocidad" };
+    private static final int[] MINIMOS = { 0, 0, 0, 1 };
+    private static final int[] MAXIMOS = { 360, 180, 90, 100 };
+    private static final String[] METODOS_SIN_VALOR = { "iniciar", "detener", "abrirGarra()", "cerrarGarra()" };
+
+    // Instrucciones mal formadas (provocan la recuperación de errores del parser)
+    private static final String[] INSTRUCCIONES_ERRONEAS = { ".base(", " = 45", ".cuerpo = = 10", ".garra(10 20)",
+            ".repetir 3", " base 90", ".iniciar(", ".velocidad =" };
+
+    // Caracteres que el lexer no reconoce
+    private static final String[] BASURA = { "@", "#", "$", "%", "&", "?", "!", "ñ", "¿", "€", "~" };
+
+    private static final int MAX_REPETICIONES = 10;
+    private static final String SANGRIA = "    ";
+
+    private final long semilla;
+    private int numRobots = 8;
+    private long numInstrucciones = Long.MAX_VALUE;
+    private long tamanoMaximo = 1L << 20; // En bytes (UTF-8)
+    private int profundidadMaxima = 3;
+    private double proporcionFueraDeRango = 0; // Valores fuera del rango del método
+    private double proporcionErrores = 0; // Instrucciones erróneas
+    private double proporcionBasura = 0; // Instrucciones seguidas de caracteres no reconocidos
+
+    /**
+     * Constructor del generador
+     *
+     * @param semilla Semilla del generador aleatorio
+     */
+    public GeneradorProgramas(long semilla) {
+        this.semilla = semilla;
+    }
+
+    // Setters de la configuración
+    public void setNumRobots(int numRobots) {
+        this.numRobots = Math.max(1, numRobots);
+    }
+
+    public void setNumInstrucciones(long numInstrucciones) {
+        this.numInstrucciones = numInstrucciones;
+    }
+
+    public void setTamanoMaximo(long tamanoMaximo) {
+        this.tamanoMaximo = tamanoMaximo;
+    }
+
+    public void setProfundidadMaxima(int profundidadMaxima) {
+        this.profundidadMaxima = profundidadMaxima;
+    }
+
+    public void setProporcionFueraDeRango(double proporcion) {
+        this.proporcionFueraDeRango = proporcion;
+    }
+
+    public void setProporcionErrores(double proporcion) {
+        this.proporcionErrores = proporcion;
+    }
+
+    public void setProporcionBasura(double proporcion) {
+        this.proporcionBasura = proporcion;
+    }
+
+    /**
+     * Genera un programa completo. Termina al llegar al número de
+     * instrucciones o al tamaño máximo (lo que ocurra antes) y cierra los
+     * bloques repetir que queden abiertos
+     *
+     * @param salida Destino del texto
+     * @return Bytes (UTF-8) escritos
+     * @throws IOException Si falla la escritura
+     */
+    public long generar(Writer salida) throws IOException {
+        Random aleatorio = new Random(semilla);
+        StringBuilder linea = new StringBuilder(64);
+        long bytes = 0;
+
+        for (int i = 0; i < numRobots && bytes < tamanoMaximo; i++) {
+            linea.setLength(0);
+            linea.append("Robot ").append(robot(i)).append('\n');
+            bytes += escribir(salida, linea);
+        }
+
+        int profundidad = 0;
+        for (long n = 0; n < numInstrucciones; n++) {
+            // Reservar lo necesario para cerrar los bloques abiertos
+            if (bytes + (long) profundidad * (profundidad * SANGRIA.length() + 2) >= tamanoMaximo) {
+                break;
+            }
+
+            linea.setLength(0);
+            int opcion = aleatorio.nextInt(16);
+            if (opcion == 0 && profundidad < profundidadMaxima) {
+                indentar(linea, profundidad);
+                linea.append(robot(aleatorio.nextInt(numRobots))).append(".repetir(")
+                        .append(valorRepeticiones(aleatorio)).append(") {");
+                profundidad++;
+            } else if (opcion == 1 && profundidad > 0) {
+                profundidad--;
+                indentar(linea, profundidad);
+                linea.append('}');
+            } else {
+                indentar(linea, profundidad);
+                if (aleatorio.nextDouble() < proporcionErrores) {
+                    instruccionErronea(linea, aleatorio);
+                } else {
+                    instruccion(linea, aleatorio);
+                }
+            }
+
+            if (aleatorio.nextDouble() < proporcionBasura) {
+                linea.append(' ');
+                for (int k = aleatorio.nextInt(3); k >= 0; k--) {
+                    linea.append(BASURA[aleatorio.nextInt(BASURA.length)]);
+                }
+            }
+            linea.append('\n');
+            bytes += escribir(salida, linea);
+        }
+
+        while (profundidad > 0) {
+            linea.setLength(0);
+            indentar(linea, --profundidad);
+            linea.append("}\n");
+            bytes += escribir(salida, linea);
+        }
+        salida.flush();
+        return bytes;
+    }
+
+    private static String robot(int i) {
+        return "r" + (i + 1);
+    }
+
+    // Instrucción válida sobre un robot declarado
+    private void instruccion(StringBuilder linea, Random aleatorio) {
+        linea.append(robot(aleatorio.nextInt(numRobots))).append('.');
+        if (aleatorio.nextInt(3) == 0) {
+            linea.append(METODOS_SIN_VALOR[aleatorio.nextInt(METODOS_SIN_VALOR.length)]);
+            return;
+        }
+
+        int metodo = aleatorio.nextInt(METODOS_VALOR.length);
+        int valor;
+        if (aleatorio.nextDouble() < proporcionFueraDeRango) {
+            valor = MAXIMOS[metodo] + 1 + aleatorio.nextInt(1000);
+        } else {
+            valor = MINIMOS[metodo] + aleatorio.nextInt(MAXIMOS[metodo] - MINIMOS[metodo] + 1);
+        }
+        linea.append(METODOS_VALOR[metodo]);
+        if (aleatorio.nextBoolean()) {
+            linea.append('(').append(valor).append(')');
+        } else {
+            linea.append(" = ").append(valor);
+        }
+    }
+
+    // Instrucción con un error sintáctico o con un robot no declarado o repetido
+    private void instruccionErronea(StringBuilder linea, Random aleatorio) {
+        switch (aleatorio.nextInt(4)) {
+            case 0:
+                linea.append("Robot ").append(robot(aleatorio.nextInt(numRobots)));
+                break;
+            case 1:
+                linea.append("x").append(aleatorio.nextInt(100)).append(".iniciar");
+                break;
+            default:
+                linea.append(robot(aleatorio.nextInt(numRobots)))
+                        .append(INSTRUCCIONES_ERRONEAS[aleatorio.nextInt(INSTRUCCIONES_ERRONEAS.length)]);
+                break;
+        }
+    }
+
+    private int valorRepeticiones(Random aleatorio) {
+        // Cero repeticiones cuenta como valor fuera de rango
+        return aleatorio.nextDouble() < proporcionFueraDeRango ? 0 : 1 + aleatorio.nextInt(MAX_REPETICIONES);
+    }
+
+    private static void indentar(StringBuilder linea, int profundidad) {
+        for (int i = 0; i < profundidad; i++) {
+            linea.append(SANGRIA);
+        }
+    }
+
+    // Escribe una línea y devuelve su tamaño en UTF-8 (no hay pares sustitutos)
+    private static long escribir(Writer salida, StringBuilder linea) throws IOException {
+        salida.append(linea);
+        long bytes = 0;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        }
+        return bytes;
+    }
+
+    /**
+     * Genera uno o varios programas en disco
+     */
+    public static void main(String[] args) {
+        long semilla = 1;
+        int numArchivos = 0;
+        Path salida = null;
+        GeneradorProgramas plantilla = new GeneradorProgramas(0);
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--semilla":
+                        semilla = Argumentos.leerNumero(args, ++i, "--semilla");
+                        break;
+                    case "--robots":
+                        plantilla.setNumRobots((int) Argumentos.leerNumero(args, ++i, "--robots", 1, Integer.MAX_VALUE));
+                        break;
+                    case "--instrucciones":
+                        plantilla.setNumInstrucciones(Argumentos.leerNumero(args, ++i, "--instrucciones"));
+                        break;
+                    case "--tamano":
+                        plantilla.setTamanoMaximo(Argumentos.leerNumero(args, ++i, "--tamano"));
+                        break;
+                    case "--profundidad":
+                        plantilla.setProfundidadMaxima((int) Argumentos.leerNumero(args, ++i, "--profundidad", 0,
+                                Integer.MAX_VALUE));
+                        break;
+                    case "--fuera-de-rango":
+                        plantilla.setProporcionFueraDeRango(Argumentos.leerProporcion(args, ++i));
+                        break;
+                    case "--errores":
+                        plantilla.setProporcionErrores(Argumentos.leerProporcion(args, ++i));
+                        break;
+                    case "--basura":
+                        plantilla.setProporcionBasura(Argumentos.leerProporcion(args, ++i));
+                        break;
+                    case "--archivos":
+                        numArchivos = (int) Argumentos.leerNumero(args, ++i, "--archivos", 0, Integer.MAX_VALUE);
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                        }
+                        salida = Paths.get(args[i]);
+                        break;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+
+        if (salida == null) {
+            System.err.println("Uso: GeneradorProgramas [opciones] salida");
+            System.exit(2);
+        }
+
+        try {
+            if (numArchivos <= 0) {
+                long bytes = plantilla.copiar(semilla).generarArchivo(salida);
+                System.out.println(salida + ": " + bytes + " bytes");
+                return;
+            }
+
+            Files.createDirectories(salida);
+            long total = 0;
+            for (int i = 0; i < numArchivos; i++) {
+                Path archivo = salida.resolve(String.format(Locale.ROOT, "programa_%05d.txt", i));
+                total += plantilla.copiar(semilla + i).generarArchivo(archivo);
+            }
+            System.out.println(salida + ": " + numArchivos + " programas, " + total + " bytes");
+        } catch (IOException e) {
+            System.err.println("Error al escribir los programas: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // Copia de la configuración con otra semilla
+    private GeneradorProgramas copiar(long otraSemilla) {
+        GeneradorProgramas copia = new GeneradorProgramas(otraSemilla);
+        copia.numRobots = numRobots;
+        copia.numInstrucciones = numInstrucciones;
+        copia.tamanoMaximo = tamanoMaximo;
+        copia.profundidadMaxima = profundidadMaxima;
+        copia.proporcionFueraDeRango = proporcionFueraDeRango;
+        copia.proporcionErrores = proporcionErrores;
+        copia.proporcionBasura = proporcionBasura;
+        return copia;
+    }
+
+    private long generarArchivo(Path archivo) throws IOException {
+        try (Writer salida = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            return generar(salida);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Índice con la posición donde empieza cada línea de un texto. Se construye
+ * una vez por análisis y traduce entre línea/columna y posición absoluta con
+ * una búsqueda binaria, sin volver a recorrer el texto.
+ *
+ * Los saltos de línea son los mismos que cuenta el lexer (JFlex): \n, \r,
+ * \r\n (un solo salto), \f, U+000B, U+0085, U+2028 y U+2029.
+ */
+public class IndiceLineas {
+
+    private final int[] inicios; // Posición del primer carácter de cada línea
+    private final int numLineas;
+    private final int longitudTexto;
+    private final BitSet saltosDobles = new BitSet(); // Líneas (desde 0) que terminan en \r\n
+
+    /**
+     * Construye el índice de un texto
+     *
+     * @param texto Texto a indexar
+     */
+    public IndiceLineas(CharSequence texto) {
+        int[] arreglo = new int[64];
+        int n = 1; // arreglo[0] = 0: la primera línea empieza al principio
+        int longitud = texto.length();
+        for (int i = 0; i < longitud; i++) {
+            char c = texto.charAt(i);
+            if (!esSaltoDeLinea(c)) {
+                continue;
+            }
+            if (c == '\r' && i + 1 < longitud && texto.charAt(i + 1) == '\n') {
+                saltosDobles.set(n - 1);
+                i++;
+            }
+            if (n == arreglo.length) {
+                arreglo = Arrays.copyOf(arreglo, n * 2);
+            }
+            arreglo[n++] = i + 1;
+        }
+        this.inicios = arreglo;
+        this.numLineas = n;
+        this.longitudTexto = longitud;
+    }
+
+    /**
+     * Número de líneas del texto (un texto vacío tiene una línea)
+     *
+     * @return Cantidad de líneas
+     */
+    public int getNumLineas() {
+        return numLineas;
+    }
+
+    /**
+     * Indica si una línea existe en el texto
+     *
+     * @param linea Número de línea (comenzando en 1)
+     * @return true si la línea está dentro del texto
+     */
+    public boolean existeLinea(int linea) {
+        return linea >= 1 && linea <= numLineas;
+    }
+
+    /**
+     * Posición donde empieza una línea
+     *
+     * @param linea Número de línea (comenzando en 1)
+     * @return Posición del primer carácter de la línea
+     */
+    public int getInicioLinea(int linea) {
+        return inicios[linea - 1];
+    }
+
+    /**
+     * Posición donde termina una línea, sin contar el salto de línea
+     *
+     * @param linea Número de línea (comenzando en 1)
+     * @return Posición siguiente al último carácter de la línea
+     */
+    public int getFinLinea(int linea) {
+        if (linea >= numLineas) {
+            return longitudTexto;
+        }
+        return inicios[linea] - (saltosDobles.get(linea - 1) ? 2 : 1);
+    }
+
+    /**
+     * Traduce línea y columna a una posición absoluta en el texto
+     *
+     * @param linea   Número de línea (comenzando en 1)
+     * @param columna Número de columna (comenzando en 1)
+     * @return Posición en el texto
+     */
+    public int getPosicion(int linea, int columna) {
+        return inicios[linea - 1] + columna - 1;
+    }
+
+    /**
+     * Busca la línea que contiene una posición (búsqueda binaria)
+     *
+     * @param posicion Posición en el texto
+     * @return Número de línea (comenzando en 1)
+     */
+    public int getLinea(int posicion) {
+        int bajo = 0;
+        int alto = numLineas - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto + 1) >>> 1;
+            if (inicios[medio] <= posicion) {
+                bajo = medio;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        return bajo + 1;
+    }
+
+    /**
+     * Indica si un carácter es un salto de línea para el lexer
+     *
+     * @param c Carácter
+     * @return true si JFlex cuenta una línea nueva después de él
+     */
+    public static boolean esSaltoDeLinea(char c) {
+        switch (c) {
+            case '\n':
+            case '\r':
+            case '\u000B':
+            case '\f':
+            case '\u0085':
+            case '\u2028':
+            case '\u2029':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -9,7 +9,7 @@ import java.awt.event.*;
 import java.io.*;
 import java.util.*;
 import java.util.List;
-import java.util.regex.*;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Interfaz gráfica principal para el analizador de lenguaje de control de
@@ -19,7 +19,7 @@ public class Interfaz extends JFrame {
 
     // Componentes de la interfaz
     private JTextPane editorCodigo;
-    private JPanel panelNumeroLineas;
+    private LineNumberPanel panelNumeroLineas;
     private JTabbedPane panelResultados;
     private JTable tablaTokens;
     private JTextArea areaErrores;
@@ -29,13 +29,40 @@ public class Interfaz extends JFrame {
     private JLabel etiquetaEstado;
 
     // Modelos para las tablas
-    private DefaultTableModel modeloTokens;
-    private DefaultTableModel modeloSimbolos;
+    private ModeloTablaTokens modeloTokens;
+    private ModeloTablaSimbolos modeloSimbolos;
+
+    // Análisis léxico incremental
+    private LexerIncremental lexerIncremental = new LexerIncremental();
+
+    // Resultados de los últimos textos analizados
+    private final CacheAnalisis cacheAnalisis = new CacheAnalisis(32, 8_000_000);
+
+    // Análisis en segundo plano en curso y la instantánea con la que empezó
+    private SwingWorker<ResultadoEjecucion, Void> analisisEnCurso;
+    private LexerIncremental.Instantanea instantaneaEnCurso;
+
+    // Análisis en vivo: se espera a que el usuario deje de escribir durante la
+    // pausa indicada (en milisegundos) antes de analizar
+    private static final int PAUSA_EN_VIVO = Integer.getInteger("analizador.pausaEnVivo", 50);
+    private JCheckBoxMenuItem itemAnalisisEnVivo;
+    private javax.swing.Timer temporizadorEnVivo;
 
     // Estilos para el editor
     private StyledDocument documentoEditor;
     private Style estiloNormal;
-    private Style estiloError;
+
+    // Marcas de error en la capa de resaltado del editor; no modifican el
+    // documento, así que se quitan y se ponen sin tocar el texto
+    private static final Highlighter.HighlightPainter PINTOR_ERROR = new DefaultHighlighter.DefaultHighlightPainter(
+            new Color(255, 170, 170));
+    private static final Highlighter.HighlightPainter PINTOR_LINEA_ERROR = new DefaultHighlighter.DefaultHighlightPainter(
+            new Color(255, 225, 225));
+    private final List<Object> marcasError = new ArrayList<>();
+
+    // Inicio de cada línea del texto analizado, para traducir línea y columna
+    // de los errores a posiciones del documento
+    private IndiceLineas indiceLineas;
 
     /**
      * Constructor
@@ -72,15 +99,9 @@ public class Interfaz extends JFrame {
         // Configurar estilos del editor
         estiloNormal = StyleContext.getDefaultStyleContext().getStyle(StyleContext.DEFAULT_STYLE);
 
-        estiloError = documentoEditor.addStyle("ErrorStyle", null);
-        StyleConstants.setForeground(estiloError, Color.RED);
-        StyleConstants.setBold(estiloError, true);
-
         // Inicializar las tablas
         // Tabla de tokens
-        modeloTokens = new DefaultTableModel(
-                new Object[][] {},
-                new String[] { "Lexema", "Tipo Token", "Línea", "Columna" });
+        modeloTokens = new ModeloTablaTokens();
         tablaTokens = new JTable(modeloTokens);
 
         // Área de errores en lugar de tabla
@@ -90,20 +111,8 @@ public class Interfaz extends JFrame {
         areaErrores.setForeground(Color.RED);
 
         // Tabla de símbolos
-        modeloSimbolos = new DefaultTableModel(
-                new Object[][] {},
-                new String[] { "Nombre", "Tipo", "Valor", "Parámetros", "Rango", "Línea", "Columna" });
-        tablaSimbolos = new JTable(modeloSimbolos) {
-            @Override
-            public Class<?> getColumnClass(int column) {
-                // Asegurar que las columnas de parámetros, línea y columna sean tratadas como
-                // números
-                if (column == 3 || column == 5 || column == 6) {
-                    return Integer.class;
-                }
-                return super.getColumnClass(column);
-            }
-        };
+        modeloSimbolos = new ModeloTablaSimbolos();
+        tablaSimbolos = new JTable(modeloSimbolos);
 
         // Panel de resultados con pestañas
         panelResultados = new JTabbedPane();
@@ -141,9 +150,11 @@ public class Interfaz extends JFrame {
         JPanel panelEditor = new JPanel(new BorderLayout());
         panelEditor.setBorder(BorderFactory.createTitledBorder("Editor de Código"));
 
-        // Agregar el panel de números de línea y el editor
-        panelEditor.add(panelNumeroLineas, BorderLayout.WEST);
-        panelEditor.add(new JScrollPane(editorCodigo), BorderLayout.CENTER);
+        // Agregar el editor con el panel de números de línea como encabezado de
+        // filas, para que se desplace junto con el texto
+        JScrollPane scrollEditor = new JScrollPane(editorCodigo);
+        scrollEditor.setRowHeaderView(panelNumeroLineas);
+        panelEditor.add(scrollEditor, BorderLayout.CENTER);
 
         // Crear un JSplitPane para dividir el editor y los resultados
         JSplitPane splitPane = new JSplitPane(
@@ -185,10 +196,13 @@ public class Interfaz extends JFrame {
         JMenuItem itemAnalizarLexico = new JMenuItem("Análisis Léxico");
         JMenuItem itemAnalizarSintactico = new JMenuItem("Análisis Sintáctico");
         JMenuItem itemAnalizarCompleto = new JMenuItem("Análisis Completo");
+        itemAnalisisEnVivo = new JCheckBoxMenuItem("Análisis en vivo");
 
         menuAnalizar.add(itemAnalizarLexico);
         menuAnalizar.add(itemAnalizarSintactico);
         menuAnalizar.add(itemAnalizarCompleto);
+        menuAnalizar.addSeparator();
+        menuAnalizar.add(itemAnalisisEnVivo);
 
         // Menú Ejemplos
         JMenu menuEjemplos = new JMenu("Ejemplos");
@@ -222,6 +236,7 @@ public class Interfaz extends JFrame {
         itemAnalizarLexico.addActionListener(e -> analizarLexico());
         itemAnalizarSintactico.addActionListener(e -> analizarSintactico());
         itemAnalizarCompleto.addActionListener(e -> analizarCompleto());
+        itemAnalisisEnVivo.addActionListener(e -> cambiarAnalisisEnVivo());
 
         itemEjemploCorrecto.addActionListener(e -> cargarEjemploCorrecto());
         itemEjemploLexico.addActionListener(e -> cargarEjemploErroresLexicos());
@@ -242,25 +257,59 @@ public class Interfaz extends JFrame {
     private void configurarAcciones() {
         // Ya no hay botones para configurar, todas las acciones están en el menú
 
-        // Agregar listener para actualizar números de línea cuando el documento cambia
+        // Temporizador del análisis en vivo; se reinicia con cada edición
+        temporizadorEnVivo = new javax.swing.Timer(PAUSA_EN_VIVO, e -> lanzarAnalisis(true, true, true));
+        temporizadorEnVivo.setRepeats(false);
+
+        // Agregar listener para actualizar números de línea cuando el documento cambia,
+        // cancelar el análisis en curso, registrar las ediciones para el análisis
+        // léxico incremental y programar el análisis en vivo
         editorCodigo.getDocument().addDocumentListener(new DocumentListener() {
             @Override
             public void insertUpdate(DocumentEvent e) {
-                panelNumeroLineas.repaint();
+                cancelarAnalisis();
+                lexerIncremental.registrarEdicion(e.getOffset(), 0, e.getLength());
+                programarAnalisisEnVivo();
+                panelNumeroLineas.documentoCambiado(e);
             }
 
             @Override
             public void removeUpdate(DocumentEvent e) {
-                panelNumeroLineas.repaint();
+                cancelarAnalisis();
+                lexerIncremental.registrarEdicion(e.getOffset(), e.getLength(), 0);
+                programarAnalisisEnVivo();
+                panelNumeroLineas.documentoCambiado(e);
             }
 
             @Override
             public void changedUpdate(DocumentEvent e) {
-                panelNumeroLineas.repaint();
+                // Solo cambian atributos: ni el texto ni las líneas
             }
         });
     }
 
+    /**
+     * Activa o desactiva el análisis en vivo según el menú
+     */
+    private void cambiarAnalisisEnVivo() {
+        if (itemAnalisisEnVivo.isSelected()) {
+            // Analizar enseguida el contenido actual
+            temporizadorEnVivo.restart();
+        } else {
+            temporizadorEnVivo.stop();
+        }
+    }
+
+    /**
+     * Reinicia la espera del análisis en vivo tras una edición, de modo que una
+     * ráfaga de cambios produce un solo análisis
+     */
+    private void programarAnalisisEnVivo() {
+        if (itemAnalisisEnVivo.isSelected()) {
+            temporizadorEnVivo.restart();
+        }
+    }
+
     /**
      * Crea un nuevo archivo
      */
@@ -328,10 +377,9 @@ public class Interfaz extends JFrame {
 
             reader.close();
 
-            // Resetear estilos y luego poner el texto
-            resetearEstilosEditor();
+            // Reemplazar el texto del editor
             try {
-                documentoEditor.insertString(0, contenido.toString(), estiloNormal);
+                reemplazarTexto(contenido.toString());
             } catch (BadLocationException e) {
                 // En caso de error, usar el método setText como respaldo
                 editorCodigo.setText(contenido.toString());
@@ -421,89 +469,92 @@ public class Interfaz extends JFrame {
      * Realiza el análisis léxico del código actual
      */
     private void analizarLexico() {
-        // Limpiar tablas y estilos
-        limpiarTablas();
+        lanzarAnalisis(true, false, false);
+    }
 
-        try {
-            // Preparar el analizador léxico
-            StringReader reader = new StringReader(editorCodigo.getText());
-            Lexer lexer = new Lexer(reader);
+    /**
+     * Muestra el resultado del análisis léxico
+     *
+     * @param anteriores Tokens que tenía el análisis anterior
+     * @param relexado   Resultado del nuevo análisis
+     * @param enVivo     true para no mostrar el diálogo ni cambiar de pestaña
+     */
+    private void mostrarResultadoLexico(BufferTokens anteriores, LexerIncremental.Relexado relexado,
+            boolean enVivo) {
+        // Limpiar resultados y estilos; la tabla de tokens se actualiza después
+        // solo en la parte que cambió
+        limpiarResultados();
 
-            // Lista para almacenar errores
-            List<String> erroresLexicos = new ArrayList<>();
+        BufferTokens tokens = relexado.getTokens();
 
-            // Escanear todo el código sin procesar los tokens
-            // Esto hace que el lexer procese todo el texto y almacene los tokens
-            try {
-                while (!lexer.yyatEOF()) {
-                    java_cup.runtime.Symbol sym = lexer.next_token();
-                    // En lugar de verificar sym.sym == sym.ERROR, usa la constante definida en la
-                    // clase sym
-                    if (sym.sym == 22) { // 22 es el valor de ERROR en la clase sym
-                        String errorMsg = "Error léxico en línea " + (sym.left + 1) + ", columna " + (sym.right + 1);
-                        if (sym.value != null) {
-                            errorMsg += ": " + sym.value;
-                        }
-                        erroresLexicos.add(errorMsg);
-
-                        // Resaltar el error en el editor
-                        resaltarLineaEnEditor(sym.left + 1);
-                    }
-                }
-            } catch (Exception e) {
-                // Capturar posibles errores durante el escaneo
-                String errorMsg = "Error durante el escaneo léxico: " + e.getMessage();
-                erroresLexicos.add(errorMsg);
-                System.err.println(errorMsg);
-                // Continuamos para mostrar los tokens que sí se pudieron escanear
-            }
+        // Mostrar tokens en la tabla
+        actualizarTablaTokens(anteriores, relexado);
 
-            // Obtener los tokens encontrados
-            ArrayList<Token> tokens = lexer.getTokens();
+        // Lista para almacenar errores
+        List<String> erroresLexicos = new ArrayList<>();
 
-            // Mostrar tokens en la tabla
-            for (Token token : tokens) {
-                modeloTokens.addRow(new Object[] {
-                        token.getLexema(),
-                        token.getTipoToken(),
-                        token.getLinea(),
-                        token.getColumna()
-                });
+        for (int i = 0; i < tokens.size(); i++) {
+            // Los tokens entregados al parser como ERROR son errores léxicos
+            if (tokens.getSimbolo(i) == sym.ERROR) {
+                erroresLexicos.add(tokens.getDiagnostico(i).getMensaje());
 
-                // Resaltar los tokens de error en el editor
-                if (token.getTipoToken().equals("ERROR")) {
-                    resaltarErrorEnEditor(token.getLinea(), token.getColumna(), token.getLexema().length());
-                }
+                // Resaltar el error en el editor
+                resaltarLineaEnEditor(tokens.getLinea(i));
             }
 
-            // Mostrar errores en el área de texto
-            if (!erroresLexicos.isEmpty()) {
-                StringBuilder sb = new StringBuilder();
-                for (String error : erroresLexicos) {
-                    sb.append(error).append("\n");
-                }
-                areaErrores.setText(sb.toString());
+            // Resaltar los tokens de error en el editor
+            if (tokens.esError(i)) {
+                resaltarErrorEnEditor(tokens.getLinea(i), tokens.getColumna(i), tokens.getLongitud(i));
+            }
+        }
 
-                // Cambiar a la pestaña de errores si hay errores
-                panelResultados.setSelectedIndex(1);
-            } else {
-                // Cambiar a la pestaña de tokens si no hay errores
-                panelResultados.setSelectedIndex(0);
+        // Mostrar errores en el área de texto
+        if (!erroresLexicos.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            for (String error : erroresLexicos) {
+                sb.append(error).append("\n");
             }
+            areaErrores.setText(sb.toString());
+        }
 
-            JOptionPane.showMessageDialog(
-                    this,
-                    "Análisis léxico completado: " + tokens.size() + " tokens encontrados" +
-                            (erroresLexicos.isEmpty() ? "." : " con " + erroresLexicos.size() + " errores."),
-                    "Análisis Léxico",
-                    erroresLexicos.isEmpty() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(
-                    this,
-                    "Error durante el análisis léxico: " + e.getMessage(),
-                    "Error",
-                    JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+        etiquetaEstado.setText("Análisis léxico completado.");
+
+        if (enVivo) {
+            return;
+        }
+
+        if (!erroresLexicos.isEmpty()) {
+            // Cambiar a la pestaña de errores si hay errores
+            panelResultados.setSelectedIndex(1);
+        } else {
+            // Cambiar a la pestaña de tokens si no hay errores
+            panelResultados.setSelectedIndex(0);
+        }
+
+        JOptionPane.showMessageDialog(
+                this,
+                "Análisis léxico completado: " + tokens.size() + " tokens encontrados" +
+                        (erroresLexicos.isEmpty() ? "." : " con " + erroresLexicos.size() + " errores."),
+                "Análisis Léxico",
+                erroresLexicos.isEmpty() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Actualiza la tabla de tokens tras un nuevo análisis léxico. La tabla lee
+     * directamente del buffer de tokens; si muestra el análisis anterior y el
+     * número de tokens no cambió, solo se repintan las filas afectadas.
+     *
+     * @param anteriores Tokens del análisis anterior
+     * @param relexado   Resultado del nuevo análisis
+     */
+    private void actualizarTablaTokens(BufferTokens anteriores, LexerIncremental.Relexado relexado) {
+        BufferTokens tokens = relexado.getTokens();
+
+        if (anteriores != null && modeloTokens.getTokens() == anteriores) {
+            modeloTokens.actualizarTokens(tokens, relexado.getPrimerCambio());
+        } else {
+            // La tabla no corresponde al análisis anterior: reemplazarla completa
+            modeloTokens.setTokens(tokens);
         }
     }
 
@@ -511,126 +562,234 @@ public class Interfaz extends JFrame {
      * Realiza el análisis sintáctico del código actual
      */
     private void analizarSintactico() {
-        // Si no hay análisis léxico previo, hacerlo primero
-        if (modeloTokens.getRowCount() == 0) {
-            // No mostramos los resultados léxicos para no interrumpir
-            try {
-                // Preparar el analizador léxico
-                StringReader reader = new StringReader(editorCodigo.getText());
-                Lexer lexer = new Lexer(reader);
+        lanzarAnalisis(false, true, false);
+    }
 
-                // Escanear todo el código sin procesar los tokens
-                while (!lexer.yyatEOF()) {
-                    lexer.next_token();
+    /**
+     * Muestra el resultado del análisis sintáctico
+     *
+     * @param resultado Resultado del análisis
+     * @param enVivo    true para no cambiar de pestaña
+     */
+    private void mostrarResultadoSintactico(ResultadoAnalisis resultado, boolean enVivo) {
+        // Obtener errores y tabla de símbolos
+        List<Diagnostico> errores = resultado.getErrores();
+        TablaSimbolo tablaSimbolo = resultado.getTablaSimbolo();
+
+        // Mostrar errores en el área de texto y resaltar en el editor
+        if (!errores.isEmpty()) {
+            // Si ya hay errores léxicos, agregar una separación
+            StringBuilder sb = new StringBuilder();
+            if (!areaErrores.getText().isEmpty()) {
+                sb.append("\n\nERRORES SINTÁCTICOS:\n");
+            } else {
+                areaErrores.setText("");
+                sb.append("ERRORES SINTÁCTICOS:\n");
+            }
+
+            for (Diagnostico error : errores) {
+                sb.append(error.getMensaje()).append("\n");
+
+                // Resaltar la línea completa donde ocurrió el error
+                if (error.tienePosicion()) {
+                    resaltarLineaEnEditor(error.getLinea());
                 }
-            } catch (Exception e) {
-                // Ignorar errores aquí, se manejarán en el análisis sintáctico
             }
+            areaErrores.append(sb.toString());
+
+            // Cambiar a la pestaña de errores si hay errores
+            if (!enVivo) {
+                panelResultados.setSelectedIndex(1);
+            }
+
+            etiquetaEstado
+                    .setText("Análisis sintáctico completado. Se encontraron " + errores.size() + " errores.");
+        } else {
+            // Cambiar a la pestaña de tabla de símbolos si no hay errores
+            if (!enVivo) {
+                panelResultados.setSelectedIndex(2);
+            }
+
+            etiquetaEstado.setText("Análisis sintáctico completado correctamente.");
         }
 
-        try {
-            // Preparar el analizador léxico y sintáctico
-            StringReader reader = new StringReader(editorCodigo.getText());
-            Lexer lexer = new Lexer(reader);
-            parser parser = new parser(lexer);
-
-            // Realizar análisis sintáctico
-            parser.parse();
-
-            // Obtener errores y tabla de símbolos
-            ArrayList<String> errores = parser.getErrores();
-            TablaSimbolo tablaSimbolo = parser.getTablaSimbolo();
-
-            // Añadir errores por robots duplicados
-            ArrayList<String> erroresDuplicados = tablaSimbolo.findDuplicateRobots();
-            errores.addAll(erroresDuplicados);
-
-            // Mostrar errores en el área de texto y resaltar en el editor
-            if (!errores.isEmpty()) {
-                // Si ya hay errores léxicos, agregar una separación
-                if (!areaErrores.getText().isEmpty()) {
-                    areaErrores.append("\n\nERRORES SINTÁCTICOS:\n");
-                } else {
-                    areaErrores.setText("ERRORES SINTÁCTICOS:\n");
+        // Mostrar la tabla de símbolos usando el método específico
+        mostrarTablaSimbolos(tablaSimbolo);
+    }
+
+    /**
+     * Resultados calculados en segundo plano, listos para mostrarse
+     */
+    private static class ResultadoEjecucion {
+        IndiceLineas lineas; // Inicio de cada línea del texto analizado
+        BufferTokens anteriores; // Tokens del análisis léxico anterior
+        LexerIncremental.Relexado relexado; // Tokens del texto analizado
+        ResultadoAnalisis sintactico; // null si no se pidió análisis sintáctico
+    }
+
+    /**
+     * Ejecuta el análisis fuera del hilo de eventos de Swing. Se trabaja sobre
+     * una copia del texto tomada al empezar y los resultados se muestran de una
+     * vez al terminar. Si el documento cambia mientras tanto, el análisis se
+     * cancela y sus resultados se descartan.
+     *
+     * El texto se escanea una sola vez (solo la zona editada, si se puede): los
+     * mismos tokens llenan la tabla de tokens y alimentan al parser.
+     *
+     * @param lexico     true para realizar el análisis léxico
+     * @param sintactico true para realizar el análisis sintáctico
+     * @param enVivo     true si lo lanza el análisis en vivo: solo se actualizan
+     *                   resaltado, tablas y estado, sin diálogos ni cambio de pestaña
+     */
+    private void lanzarAnalisis(boolean lexico, boolean sintactico, boolean enVivo) {
+        cancelarAnalisis();
+
+        // Instantánea inmutable del documento y del análisis léxico anterior
+        String texto = editorCodigo.getText();
+        LexerIncremental.Instantanea instantanea = lexerIncremental.iniciar();
+
+        etiquetaEstado.setText("Analizando...");
+
+        SwingWorker<ResultadoEjecucion, Void> tarea = new SwingWorker<>() {
+            @Override
+            protected ResultadoEjecucion doInBackground() throws Exception {
+                ResultadoEjecucion resultado = new ResultadoEjecucion();
+                resultado.lineas = new IndiceLineas(texto);
+
+                resultado.anteriores = instantanea.getTokens();
+
+                // Un texto ya analizado (un archivo reabierto, un ejemplo) reutiliza
+                // sus tokens y su resultado sin pasar por el lexer ni el parser
+                CacheAnalisis.Entrada guardada = cacheAnalisis.buscar(texto);
+                if (guardada != null) {
+                    resultado.relexado = LexerIncremental.reemplazar(instantanea, guardada.getTokens());
+                    resultado.sintactico = guardada.getResultado();
+                    return resultado;
                 }
 
-                // Patrón para extraer línea y columna
-                Pattern patronLineaColumna = Pattern.compile("línea (\\d+), columna (\\d+)");
-
-                for (String error : errores) {
-                    areaErrores.append(error);
-                    areaErrores.append("\n");
-
-                    // Extraer línea y columna para resaltar en el editor
-                    Matcher matcher = patronLineaColumna.matcher(error);
-                    if (matcher.find()) {
-                        try {
-                            int linea = Integer.parseInt(matcher.group(1));
-                            int columna = Integer.parseInt(matcher.group(2));
-
-                            // Resaltar la línea completa donde ocurrió el error
-                            resaltarLineaEnEditor(linea);
-                        } catch (NumberFormatException e) {
-                            // Ignorar si no se puede convertir a número
-                        }
-                    }
+                resultado.relexado = LexerIncremental.relexar(instantanea, texto);
+
+                if (sintactico) {
+                    // El parser consume los tokens ya escaneados
+                    resultado.sintactico = Analizador.analizar(resultado.relexado.getTokens());
+                    cacheAnalisis.guardar(texto, resultado.relexado.getTokens(), resultado.sintactico);
                 }
+                return resultado;
+            }
 
-                // Cambiar a la pestaña de errores si hay errores
-                panelResultados.setSelectedIndex(1);
+            @Override
+            protected void done() {
+                // Un análisis cancelado o reemplazado por otro no muestra nada
+                if (isCancelled() || analisisEnCurso != this) {
+                    return;
+                }
+                analisisEnCurso = null;
+                instantaneaEnCurso = null;
 
-                etiquetaEstado
-                        .setText("Análisis sintáctico completado. Se encontraron " + errores.size() + " errores.");
-            } else {
-                // Cambiar a la pestaña de tabla de símbolos si no hay errores
-                panelResultados.setSelectedIndex(2);
+                ResultadoEjecucion resultado;
+                try {
+                    resultado = get();
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable causa = e instanceof ExecutionException ? e.getCause() : e;
+                    lexerIncremental.descartar(instantanea);
+                    etiquetaEstado.setText("Error durante el análisis: " + causa.getMessage());
+                    causa.printStackTrace();
+                    if (enVivo) {
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(
+                            Interfaz.this,
+                            "Error durante el análisis: " + causa.getMessage(),
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
 
-                etiquetaEstado.setText("Análisis sintáctico completado correctamente.");
+                indiceLineas = resultado.lineas;
+                lexerIncremental.confirmar(instantanea, resultado.relexado);
+                if (lexico) {
+                    mostrarResultadoLexico(resultado.anteriores, resultado.relexado, enVivo);
+                } else {
+                    actualizarTablaTokens(resultado.anteriores, resultado.relexado);
+                }
+                if (sintactico) {
+                    mostrarResultadoSintactico(resultado.sintactico, enVivo);
+                }
             }
+        };
 
-            // Mostrar la tabla de símbolos usando el método específico
-            mostrarTablaSimbolos(tablaSimbolo);
+        analisisEnCurso = tarea;
+        instantaneaEnCurso = instantanea;
+        tarea.execute();
+    }
 
-        } catch (Exception e) {
-            areaErrores.append("\nError durante el análisis sintáctico: " + e.getMessage() + "\n");
-            panelResultados.setSelectedIndex(1);
-            etiquetaEstado.setText("Error durante el análisis sintáctico: " + e.getMessage());
-            e.printStackTrace();
+    /**
+     * Cancela el análisis en segundo plano, si hay alguno en curso. Las
+     * ediciones que tenía su instantánea vuelven a quedar pendientes.
+     */
+    private void cancelarAnalisis() {
+        if (analisisEnCurso == null) {
+            return;
+        }
+        analisisEnCurso.cancel(true);
+        if (instantaneaEnCurso != null) {
+            lexerIncremental.descartar(instantaneaEnCurso);
         }
+        analisisEnCurso = null;
+        instantaneaEnCurso = null;
+        etiquetaEstado.setText("Análisis cancelado.");
     }
 
     /**
      * Limpia las tablas y el área de resultados
      */
     private void limpiarTablas() {
-        while (modeloTokens.getRowCount() > 0) {
-            modeloTokens.removeRow(0);
-        }
+        modeloTokens.setTokens(null);
+
+        limpiarResultados();
+    }
 
+    /**
+     * Limpia el área de errores, la tabla de símbolos y las marcas de error del editor
+     */
+    private void limpiarResultados() {
         areaErrores.setText("");
+        modeloSimbolos.limpiar();
 
-        while (modeloSimbolos.getRowCount() > 0) {
-            modeloSimbolos.removeRow(0);
-        }
+        // Quitar las marcas de error del editor
+        limpiarMarcasError();
+    }
 
-        // Limpiar estilos de error del editor
-        resetearEstilosEditor();
+    /**
+     * Reemplaza todo el texto del editor
+     *
+     * @param texto Texto nuevo
+     * @throws BadLocationException Si el documento rechaza la edición
+     */
+    private void reemplazarTexto(String texto) throws BadLocationException {
+        documentoEditor.remove(0, documentoEditor.getLength());
+        documentoEditor.insertString(0, texto, estiloNormal);
     }
 
     /**
-     * Resetea los estilos del editor, eliminando el resaltado de errores
+     * Quita las marcas de error del editor. Solo se recorren las marcas
+     * puestas, sin modificar el documento, así que se conservan el cursor y
+     * la posición del texto.
      */
-    private void resetearEstilosEditor() {
-        try {
-            // Guardar el texto
-            String textoActual = editorCodigo.getText();
-            // Limpiar el documento
-            documentoEditor.remove(0, documentoEditor.getLength());
-            // Reinsertar el texto con el estilo normal
-            documentoEditor.insertString(0, textoActual, estiloNormal);
-        } catch (BadLocationException e) {
-            e.printStackTrace();
+    private void limpiarMarcasError() {
+        Highlighter resaltador = editorCodigo.getHighlighter();
+        for (Object marca : marcasError) {
+            resaltador.removeHighlight(marca);
         }
+        marcasError.clear();
+    }
+
+    /**
+     * Añade una marca de error en la capa de resaltado del editor
+     */
+    private void marcarError(int inicio, int fin, Highlighter.HighlightPainter pintor)
+            throws BadLocationException {
+        marcasError.add(editorCodigo.getHighlighter().addHighlight(inicio, fin, pintor));
     }
 
     /**
@@ -642,29 +801,17 @@ public class Interfaz extends JFrame {
      */
     private void resaltarErrorEnEditor(int linea, int columna, int longitud) {
         try {
-            String texto = editorCodigo.getText();
-            String[] lineas = texto.split("\n");
-
-            if (linea <= 0 || linea > lineas.length) {
+            if (indiceLineas == null || !indiceLineas.existeLinea(linea)) {
                 return; // Línea fuera de rango
             }
 
-            // Ajustar índices a base 0
-            linea = linea - 1;
-            columna = columna - 1;
-
             // Calcular la posición absoluta en el documento
-            int posicion = 0;
-            for (int i = 0; i < linea; i++) {
-                posicion += lineas[i].length() + 1; // +1 por el salto de línea
-            }
-
-            posicion += columna;
+            int posicion = indiceLineas.getPosicion(linea, columna);
 
             // Asegurar que no nos pasamos del final del documento
             int longitudMaxima = Math.min(longitud, documentoEditor.getLength() - posicion);
             if (posicion >= 0 && posicion + longitudMaxima <= documentoEditor.getLength()) {
-                documentoEditor.setCharacterAttributes(posicion, longitudMaxima, estiloError, true);
+                marcarError(posicion, posicion + longitudMaxima, PINTOR_ERROR);
             }
         } catch (Exception e) {
             System.err.println("Error al resaltar texto: " + e.getMessage());
@@ -678,25 +825,12 @@ public class Interfaz extends JFrame {
      */
     private void resaltarLineaEnEditor(int linea) {
         try {
-            String texto = editorCodigo.getText();
-            String[] lineas = texto.split("\n");
-
-            if (linea <= 0 || linea > lineas.length) {
+            if (indiceLineas == null || !indiceLineas.existeLinea(linea)) {
                 return; // Línea fuera de rango
             }
 
-            // Ajustar índice a base 0
-            linea = linea - 1;
-
-            // Calcular la posición absoluta en el documento
-            int posicion = 0;
-            for (int i = 0; i < linea; i++) {
-                posicion += lineas[i].length() + 1; // +1 por el salto de línea
-            }
-
             // Resaltar toda la línea
-            int longitud = lineas[linea].length();
-            documentoEditor.setCharacterAttributes(posicion, longitud, estiloError, true);
+            marcarError(indiceLineas.getInicioLinea(linea), indiceLineas.getFinLinea(linea), PINTOR_LINEA_ERROR);
         } catch (Exception e) {
             System.err.println("Error al resaltar línea: " + e.getMessage());
         }
@@ -759,9 +893,8 @@ public class Interfaz extends JFrame {
                 "r1.detener";
 
         try {
-            // Resetear estilos y luego poner el texto
-            resetearEstilosEditor();
-            documentoEditor.insertString(0, ejemplo, estiloNormal);
+            // Reemplazar el texto del editor
+            reemplazarTexto(ejemplo);
 
             setTitle("Analizador de Lenguaje de Control de Robots - [Ejemplo Correcto]");
             limpiarTablas();
@@ -799,9 +932,8 @@ public class Interfaz extends JFrame {
                 "r1.detener";
 
         try {
-            // Resetear estilos y luego poner el texto
-            resetearEstilosEditor();
-            documentoEditor.insertString(0, ejemplo, estiloNormal);
+            // Reemplazar el texto del editor
+            reemplazarTexto(ejemplo);
 
             setTitle("Analizador de Lenguaje de Control de Robots - [Ejemplo con Errores Léxicos]");
             limpiarTablas();
@@ -839,9 +971,8 @@ public class Interfaz extends JFrame {
                 "r1.detener";
 
         try {
-            // Resetear estilos y luego poner el texto
-            resetearEstilosEditor();
-            documentoEditor.insertString(0, ejemplo, estiloNormal);
+            // Reemplazar el texto del editor
+            reemplazarTexto(ejemplo);
 
             setTitle("Analizador de Lenguaje de Control de Robots - [Ejemplo con Errores Sintácticos]");
             limpiarTablas();
@@ -857,17 +988,15 @@ public class Interfaz extends JFrame {
      * @param tablaSimbolo La tabla de símbolos a mostrar
      */
     private void mostrarTablaSimbolos(TablaSimbolo tablaSimbolo) {
-        // Limpiar la tabla
-        while (modeloSimbolos.getRowCount() > 0) {
-            modeloSimbolos.removeRow(0);
-        }
+        // Las filas se reúnen primero y se muestran al final de una sola vez
+        List<Object[]> filas = new ArrayList<>();
 
         // Primer paso: robots declarados
         for (TablaSimbolo.SimboloInfo simbolo : tablaSimbolo.getSimbolos()) {
-            if (simbolo.getTipo().equals("ROBOT")) {
-                modeloSimbolos.addRow(new Object[] {
+            if (simbolo.getTipo() == TablaSimbolo.TipoSimbolo.ROBOT) {
+                filas.add(new Object[] {
                         simbolo.getNombre(),
-                        simbolo.getTipo(),
+                        simbolo.getTipo().name(),
                         simbolo.getValor() != null ? simbolo.getValor().toString() : "",
                         0, // Sin parámetros para robots
                         "", // Sin rango para robots
@@ -883,48 +1012,51 @@ public class Interfaz extends JFrame {
                 "detener", "garra", "iniciar", "repetir", "velocidad"
         };
 
-        // Mapa para almacenar los métodos y sus valores
-        HashMap<String, String> metodosValores = new HashMap<>();
-        // Mapa para almacenar posiciones de métodos
-        HashMap<String, int[]> posicionesMetodos = new HashMap<>();
-        // Mapa para almacenar si un método tiene parámetros
-        HashMap<String, Boolean> metodosConParametros = new HashMap<>();
+        // Primer uso de cada método y uso del que se toma el valor mostrado
+        HashMap<String, TablaSimbolo.UsoMetodo> primerUso = new HashMap<>();
+        HashMap<String, TablaSimbolo.UsoMetodo> usoValor = new HashMap<>();
 
-        // Buscar métodos y sus valores directamente en el código
-        procesarCodigoParaMetodos(metodosValidos, metodosValores, posicionesMetodos, metodosConParametros);
+        // Resumir los usos que registró el parser durante el análisis
+        for (TablaSimbolo.UsoMetodo uso : tablaSimbolo.getUsos()) {
+            String metodo = uso.getMetodo();
+
+            TablaSimbolo.UsoMetodo primero = primerUso.get(metodo);
+            if (primero == null || esAnterior(uso, primero)) {
+                primerUso.put(metodo, uso);
+            }
+
+            // El valor es el de la última asignación o, si no hay, el del primer
+            // argumento
+            if (uso.getArgumento() != null) {
+                TablaSimbolo.UsoMetodo actual = usoValor.get(metodo);
+                if (actual == null
+                        || (uso.isAsignacion() && (!actual.isAsignacion() || esAnterior(actual, uso)))
+                        || (!uso.isAsignacion() && !actual.isAsignacion() && esAnterior(uso, actual))) {
+                    usoValor.put(metodo, uso);
+                }
+            }
+        }
 
         // Agregar métodos encontrados a la tabla
         for (String nombreMetodo : metodosValidos) {
-            if (posicionesMetodos.containsKey(nombreMetodo)) {
-                int[] posicion = posicionesMetodos.get(nombreMetodo);
-                int linea = posicion[0];
-                int columna = posicion[1];
-                boolean tieneParametros = metodosConParametros.getOrDefault(nombreMetodo, false);
-                String valor = metodosValores.getOrDefault(nombreMetodo, "");
-
-                // Determinar el rango según el tipo de método
+            if (primerUso.containsKey(nombreMetodo)) {
+                TablaSimbolo.UsoMetodo primero = primerUso.get(nombreMetodo);
+                int linea = primero.getLinea();
+                int columna = primero.getColumna();
+                TablaSimbolo.UsoMetodo conValor = usoValor.get(nombreMetodo);
+                boolean tieneParametros = conValor != null;
+                String valor = conValor != null ? conValor.getArgumento().toString() : "";
+
+                // Rango del argumento según la tabla de métodos
                 String rangoStr = "";
                 int numParametros = tieneParametros ? 1 : 0;
-
-                switch (nombreMetodo) {
-                    case "base":
-                        rangoStr = "[0..360]";
-                        break;
-                    case "cuerpo":
-                        rangoStr = "[0..180]";
-                        break;
-                    case "garra":
-                        rangoStr = "[0..90]";
-                        break;
-                    case "velocidad":
-                        rangoStr = "[1..100]";
-                        break;
-                    case "repetir":
-                        rangoStr = "[1..∞)";
-                        break;
+                TablaSimbolo.SimboloInfo info = tablaSimbolo.getMetodoInfo(nombreMetodo);
+                if (info != null && info.getNumParametros() > 0) {
+                    rangoStr = "[" + info.getMinValor() + ".."
+                            + (info.getMaxValor() == Integer.MAX_VALUE ? "∞)" : info.getMaxValor() + "]");
                 }
 
-                modeloSimbolos.addRow(new Object[] {
+                filas.add(new Object[] {
                         nombreMetodo,
                         "METODO",
                         valor, // Mostrar el valor si existe
@@ -936,6 +1068,8 @@ public class Interfaz extends JFrame {
             }
         }
 
+        modeloSimbolos.setFilas(filas);
+
         // Ajustar el ancho de las columnas
         tablaSimbolos.getColumnModel().getColumn(0).setPreferredWidth(80); // Nombre
         tablaSimbolos.getColumnModel().getColumn(1).setPreferredWidth(70); // Tipo
@@ -947,117 +1081,92 @@ public class Interfaz extends JFrame {
     }
 
     /**
-     * Procesa el código para encontrar métodos y sus valores
+     * Indica si un uso aparece en el código antes que otro
      */
-    private void procesarCodigoParaMetodos(String[] metodosValidos, HashMap<String, String> metodosValores,
-            HashMap<String, int[]> posicionesMetodos, HashMap<String, Boolean> metodosConParametros) {
-
-        // Preparar un conjunto de métodos válidos para búsqueda rápida
-        HashSet<String> metodosBuscados = new HashSet<>(Arrays.asList(metodosValidos));
-
-        String codigo = editorCodigo.getText();
-        String[] lineas = codigo.split("\n");
-
-        for (int i = 0; i < lineas.length; i++) {
-            String linea = lineas[i];
-
-            // Buscar asignaciones: r1.base = 90
-            Pattern patternAsign = Pattern.compile("([a-zA-Z0-9_]+)\\.([a-zA-Z0-9_]+)\\s*=\\s*([0-9.]+)");
-            Matcher matcherAsign = patternAsign.matcher(linea);
-
-            while (matcherAsign.find()) {
-                String metodo = matcherAsign.group(2);
-                String valor = matcherAsign.group(3);
+    private static boolean esAnterior(TablaSimbolo.UsoMetodo a, TablaSimbolo.UsoMetodo b) {
+        return a.getLinea() < b.getLinea() || (a.getLinea() == b.getLinea() && a.getColumna() < b.getColumna());
+    }
 
-                // Solo procesar si es un método válido
-                if (metodosBuscados.contains(metodo)) {
-                    // Guardar valor
-                    metodosValores.put(metodo, valor);
+    /**
+     * Componente para mostrar números de línea. Se coloca como encabezado de
+     * filas del JScrollPane del editor y solo pinta las líneas de la zona que
+     * hay que repintar; el número de líneas sale del elemento raíz del
+     * documento, sin copiar el texto.
+     */
+    class LineNumberPanel extends JPanel {
+        private JTextComponent textComponent;
+        private static final int MARGIN = 5;
+        private static final int MIN_WIDTH = 35;
+        private static final Color BACKGROUND = new Color(240, 240, 240);
+        private static final Color FOREGROUND = new Color(80, 80, 80);
 
-                    // Guardar posición si aún no está registrada
-                    if (!posicionesMetodos.containsKey(metodo)) {
-                        posicionesMetodos.put(metodo, new int[] { i + 1, matcherAsign.start(2) + 1 });
-                    }
+        // Métricas de la fuente del editor, recalculadas solo si cambia la fuente
+        private Font cachedFont;
+        private FontMetrics fontMetrics;
+        private int digits; // Dígitos del mayor número de línea mostrado
 
-                    // Marcar como con parámetros
-                    metodosConParametros.put(metodo, true);
+        public LineNumberPanel(JTextComponent textComponent) {
+            this.textComponent = textComponent;
+            setBackground(BACKGROUND);
+            setOpaque(true);
+
+            // El alto del editor cambia también al ajustar líneas largas
+            textComponent.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    revalidate();
+                    repaint();
                 }
-            }
-
-            // Buscar llamadas con paréntesis: r1.base(180)
-            Pattern patternParam = Pattern.compile("([a-zA-Z0-9_]+)\\.([a-zA-Z0-9_]+)\\s*\\(([^)]+)\\)");
-            Matcher matcherParam = patternParam.matcher(linea);
-
-            while (matcherParam.find()) {
-                String metodo = matcherParam.group(2);
-                String paramStr = matcherParam.group(3).trim();
-
-                // Solo procesar si es un método válido
-                if (metodosBuscados.contains(metodo)) {
-                    // Si no hay valor previo (de asignación), usar el parámetro como valor
-                    if (!metodosValores.containsKey(metodo)) {
-                        metodosValores.put(metodo, paramStr);
-                    }
-
-                    // Guardar posición si aún no está registrada
-                    if (!posicionesMetodos.containsKey(metodo)) {
-                        posicionesMetodos.put(metodo, new int[] { i + 1, matcherParam.start(2) + 1 });
-                    }
+            });
+        }
 
-                    // Marcar como con parámetros
-                    metodosConParametros.put(metodo, true);
-                }
+        private FontMetrics getMetrics() {
+            Font font = textComponent.getFont();
+            if (font != cachedFont) {
+                cachedFont = font;
+                fontMetrics = getFontMetrics(font);
             }
+            return fontMetrics;
+        }
 
-            // Buscar llamadas sin parámetros: r1.iniciar
-            Pattern patternNoParam = Pattern.compile("([a-zA-Z0-9_]+)\\.([a-zA-Z0-9_]+)(?!\\s*[=\\(])");
-            Matcher matcherNoParam = patternNoParam.matcher(linea);
-
-            while (matcherNoParam.find()) {
-                String metodo = matcherNoParam.group(2);
+        private int getLineCount() {
+            return textComponent.getDocument().getDefaultRootElement().getElementCount();
+        }
 
-                // Solo procesar si es un método válido y no se ha encontrado antes
-                if (metodosBuscados.contains(metodo) && !posicionesMetodos.containsKey(metodo)) {
-                    // Guardar posición
-                    posicionesMetodos.put(metodo, new int[] { i + 1, matcherNoParam.start(2) + 1 });
+        @Override
+        public Dimension getPreferredSize() {
+            digits = Math.max(2, String.valueOf(getLineCount()).length());
+            int width = Math.max(MIN_WIDTH, 2 * MARGIN + digits * getMetrics().charWidth('0'));
+            return new Dimension(width, textComponent.getPreferredSize().height);
+        }
 
-                    // Marcar como sin parámetros
-                    metodosConParametros.put(metodo, false);
-                }
+        /**
+         * Actualiza el panel tras una edición. Si no cambió el número de líneas
+         * no hay nada que repintar; si cambió, se repinta desde la línea editada
+         * hacia abajo.
+         *
+         * @param e Evento del documento
+         */
+        public void documentoCambiado(DocumentEvent e) {
+            Element root = textComponent.getDocument().getDefaultRootElement();
+            if (e.getChange(root) == null) {
+                return;
             }
-
-            // Buscar llamadas con paréntesis vacíos: r1.abrirGarra()
-            Pattern patternEmpty = Pattern.compile("([a-zA-Z0-9_]+)\\.([a-zA-Z0-9_]+)\\s*\\(\\)");
-            Matcher matcherEmpty = patternEmpty.matcher(linea);
-
-            while (matcherEmpty.find()) {
-                String metodo = matcherEmpty.group(2);
-
-                // Solo procesar si es un método válido
-                if (metodosBuscados.contains(metodo)) {
-                    // Guardar posición si aún no está registrada
-                    if (!posicionesMetodos.containsKey(metodo)) {
-                        posicionesMetodos.put(metodo, new int[] { i + 1, matcherEmpty.start(2) + 1 });
-                    }
-
-                    // Marcar como con parámetros (aunque vacíos)
-                    metodosConParametros.put(metodo, true);
-                }
+            if (Math.max(2, String.valueOf(root.getElementCount()).length()) != digits) {
+                revalidate();
             }
-        }
-    }
-
-    /**
-     * Componente para mostrar números de línea
-     */
-    class LineNumberPanel extends JPanel {
-        private JTextComponent textComponent;
-        private static final int MARGIN = 5;
 
-        public LineNumberPanel(JTextComponent textComponent) {
-            this.textComponent = textComponent;
-            setPreferredSize(new Dimension(35, 10));
-            setBackground(new Color(240, 240, 240));
+            // Las vistas del editor se actualizan después de este evento
+            int offset = e.getOffset();
+            SwingUtilities.invokeLater(() -> {
+                try {
+                    int y = (int) textComponent
+                            .modelToView2D(Math.min(offset, textComponent.getDocument().getLength())).getY();
+                    repaint(0, y, getWidth(), Math.max(0, getHeight() - y));
+                } catch (BadLocationException ex) {
+                    repaint();
+                }
+            });
         }
 
         @Override
@@ -1067,44 +1176,28 @@ public class Interfaz extends JFrame {
             // Configurar gráficos para mejor calidad de texto
             Graphics2D g2d = (Graphics2D) g;
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setFont(textComponent.getFont());
+            g2d.setColor(FOREGROUND);
 
-            // Obtener detalles del componente de texto
-            FontMetrics fontMetrics = g.getFontMetrics(textComponent.getFont());
-            int lineHeight = fontMetrics.getHeight();
-            int ascent = fontMetrics.getAscent();
-
-            // Obtener el texto y calcular el número de líneas
-            String text = textComponent.getText();
-            int lineCount = text.isEmpty() ? 1 : text.split("\n").length;
-
-            // Determinar la posición visible del viewport
-            Rectangle visibleRect = textComponent.getVisibleRect();
-            int startOffset = textComponent.viewToModel2D(new Point(visibleRect.x, visibleRect.y));
-            int endOffset = textComponent.viewToModel2D(new Point(visibleRect.x, visibleRect.y + visibleRect.height));
+            int ascent = getMetrics().getAscent();
 
-            // Calcular la línea inicial y final visible
-            int startLine = 0;
-            int endLine = lineCount - 1;
-
-            try {
-                startLine = textComponent.getDocument().getDefaultRootElement().getElementIndex(startOffset);
-                endLine = textComponent.getDocument().getDefaultRootElement().getElementIndex(endOffset);
-            } catch (Exception e) {
-                // Ignorar errores y usar valores predeterminados
-            }
+            // Líneas que caen dentro de la zona a repintar
+            Rectangle clip = g.getClipBounds();
+            Element root = textComponent.getDocument().getDefaultRootElement();
+            int startOffset = textComponent.viewToModel2D(new Point(0, clip.y));
+            int endOffset = textComponent.viewToModel2D(new Point(0, clip.y + clip.height));
+            int startLine = root.getElementIndex(Math.max(0, startOffset));
+            int endLine = root.getElementIndex(Math.max(0, endOffset));
 
             // Dibujar los números de línea
             for (int i = startLine; i <= endLine; i++) {
                 try {
                     // Obtener la posición Y del inicio de la línea
-                    Rectangle r = textComponent.modelToView2D(
-                            textComponent.getDocument().getDefaultRootElement().getElement(i).getStartOffset())
-                            .getBounds();
+                    Rectangle r = textComponent.modelToView2D(root.getElement(i).getStartOffset()).getBounds();
 
                     // Dibujar el número de línea
-                    g2d.setColor(new Color(80, 80, 80));
                     g2d.drawString(String.valueOf(i + 1), MARGIN, r.y + ascent);
-                } catch (Exception e) {
+                } catch (BadLocationException e) {
                     // Ignorar errores
                 }
             }
@@ -1115,11 +1208,8 @@ public class Interfaz extends JFrame {
      * Realiza el análisis léxico y sintáctico completo
      */
     private void analizarCompleto() {
-        // Primero realiza el análisis léxico
-        analizarLexico();
-
-        // Luego realiza el análisis sintáctico
-        analizarSintactico();
+        // Ambos análisis en la misma tarea: primero el léxico, luego el sintáctico
+        lanzarAnalisis(true, true, false);
     }
 
     /**
@@ -1137,8 +1227,16 @@ public class Interfaz extends JFrame {
 
     /**
      * Método principal para iniciar la aplicación
+     *
+     * Si se pasan argumentos, se ejecuta el modo por lotes sin interfaz
+     * gráfica (ver {@link AnalizadorBatch})
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            AnalizadorBatch.main(args);
+            return;
+        }
+
         try {
             // Configurar el Look and Feel para que se vea mejor
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader sobre un archivo UTF-8 mapeado en memoria, para analizar programas
+ * muy grandes sin cargar su texto en el heap.
+ *
+ * El archivo se mapea por ventanas (un mapeo no puede pasar de 2 GB) y se
+ * decodifica a medida que el lexer pide caracteres. Los bytes ASCII, que son
+ * casi todo el código, se copian directamente; solo los demás pasan por el
+ * decodificador UTF-8. Las secuencias no válidas se reemplazan por U+FFFD,
+ * igual que con un InputStreamReader.
+ */
+public class LectorMapeado extends Reader {
+
+    // Tamaño de cada ventana mapeada
+    private static final int VENTANA = 64 << 20;
+
+    private final FileChannel canal;
+    private final long tamano;
+    private final CharsetDecoder decodificador = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private MappedByteBuffer ventana;
+    private long inicioVentana = 0; // Posición en el archivo del primer byte de la ventana
+
+    // Caracteres ya decodificados por la vía lenta que aún no se entregaron
+    private final CharBuffer pendientes = CharBuffer.allocate(1024);
+
+    /**
+     * Abre un archivo para leerlo mapeado
+     *
+     * @param archivo Archivo UTF-8
+     * @throws IOException Si no se puede abrir o mapear
+     */
+    public LectorMapeado(Path archivo) throws IOException {
+        canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        tamano = canal.size();
+        pendientes.flip();
+        mapear(0);
+    }
+
+    // Mapea la ventana que empieza en una posición del archivo
+    private void mapear(long posicion) throws IOException {
+        inicioVentana = posicion;
+        ventana = canal.map(FileChannel.MapMode.READ_ONLY, posicion, Math.min(VENTANA, tamano - posicion));
+    }
+
+    @Override
+    public int read(char[] destino, int desde, int cantidad) throws IOException {
+        if (ventana == null) {
+            throw new IOException("El lector está cerrado");
+        }
+        if (cantidad == 0) {
+            return 0;
+        }
+
+        int leidos = 0;
+        while (leidos < cantidad) {
+            // Primero lo que quedó decodificado de la vía lenta
+            if (pendientes.hasRemaining()) {
+                int n = Math.min(pendientes.remaining(), cantidad - leidos);
+                pendientes.get(destino, desde + leidos, n);
+                leidos += n;
+                continue;
+            }
+
+            if (!ventana.hasRemaining()) {
+                long siguiente = inicioVentana + ventana.limit();
+                if (siguiente >= tamano) {
+                    break;
+                }
+                mapear(siguiente);
+            }
+
+            // Vía rápida: copiar bytes ASCII tal cual
+            int posicion = ventana.position();
+            int limite = Math.min(ventana.limit(), posicion + cantidad - leidos);
+            int i = posicion;
+            while (i < limite) {
+                byte b = ventana.get(i);
+                if (b < 0) {
+                    break;
+                }
+                destino[desde + leidos++] = (char) b;
+                i++;
+            }
+            ventana.position(i);
+
+            // Vía lenta: decodificar la secuencia de bytes no ASCII que sigue
+            if (i < limite) {
+                decodificarNoAscii();
+            }
+        }
+        return leidos == 0 ? -1 : leidos;
+    }
+
+    // Decodifica en pendientes los bytes no ASCII a partir de la posición actual
+    private void decodificarNoAscii() throws IOException {
+        int inicio = ventana.position();
+        int fin = inicio;
+        while (fin < ventana.limit() && fin - inicio < pendientes.capacity() && ventana.get(fin) < 0) {
+            fin++;
+        }
+
+        boolean finVentana = fin == ventana.limit();
+        boolean finArchivo = finVentana && inicioVentana + fin >= tamano;
+        if (finVentana && !finArchivo && inicio > 0) {
+            // La secuencia puede continuar en la ventana siguiente: volver a mapear
+            // desde aquí para tenerla completa
+            mapear(inicioVentana + inicio);
+            decodificarNoAscii();
+            return;
+        }
+
+        ByteBuffer bytes = ventana.duplicate();
+        bytes.position(inicio).limit(fin);
+        pendientes.clear();
+        decodificar(bytes, finArchivo);
+        if (bytes.position() == inicio) {
+            // Secuencia incompleta seguida de un byte ASCII: no es válida y se
+            // reemplaza
+            decodificar(bytes, true);
+        }
+        pendientes.flip();
+        ventana.position(bytes.position());
+    }
+
+    private void decodificar(ByteBuffer bytes, boolean finEntrada) throws IOException {
+        CoderResult resultado = decodificador.decode(bytes, pendientes, finEntrada);
+        if (finEntrada) {
+            decodificador.flush(pendientes);
+            decodificador.reset();
+        }
+        if (resultado.isError()) {
+            resultado.throwException();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        ventana = null;
+        canal.close();
+    }
+}
@@ -0,0 +1,414 @@
+import java.util.concurrent.CancellationException;
+
+/**
+ * Análisis léxico incremental para el editor.
+ *
+ * Guarda los tokens del último texto analizado y acumula las ediciones que
+ * llegan del documento. Al volver a analizar, solo se escanea desde el inicio
+ * de la línea donde empieza la zona editada hasta que el flujo de tokens
+ * vuelve a coincidir con el anterior; el resto de tokens se reutiliza
+ * desplazando su posición.
+ *
+ * El estado léxico al inicio de una línea se obtiene del propio buffer: el
+ * lexer solo está en AFTER_DOT después de un token PUNTO, así que basta mirar
+ * los tokens anteriores. Los saltos de línea son los mismos que cuenta JFlex
+ * (\n, \r, \r\n, \f, U+000B, U+0085, U+2028 y U+2029), aunque los documentos
+ * de Swing normalmente solo tienen '\n'.
+ */
+public class LexerIncremental {
+
+    /**
+     * Zona del texto modificada desde el último análisis. Es inmutable: cada
+     * edición nueva crea otra que engloba a la anterior.
+     */
+    public static final class Edicion {
+        private final int inicio; // Primera posición modificada (igual en el texto viejo y el nuevo)
+        private final int finViejo; // Fin de la zona modificada en el texto viejo
+        private final int delta; // Diferencia de longitud entre el texto nuevo y el viejo
+
+        Edicion(int inicio, int finViejo, int delta) {
+            this.inicio = inicio;
+            this.finViejo = finViejo;
+            this.delta = delta;
+        }
+
+        /**
+         * Combina esta zona con una nueva edición hecha sobre el texto ya
+         * modificado
+         */
+        Edicion combinar(int offset, int eliminados, int insertados) {
+            int finNuevo = finViejo + delta;
+            int finEdicion = offset + eliminados;
+            int nuevoFinViejo = finEdicion >= finNuevo ? finEdicion - delta : finViejo;
+            return new Edicion(Math.min(inicio, offset), nuevoFinViejo, delta + insertados - eliminados);
+        }
+    }
+
+    /**
+     * Resultado de volver a analizar el texto: el nuevo buffer y el rango de
+     * tokens que cambió respecto al anterior
+     */
+    public static final class Relexado {
+        private final BufferTokens tokens;
+        private final int primerCambio; // Primer token distinto
+        private final int numViejos; // Tokens del buffer anterior reemplazados
+        private final int numNuevos; // Tokens nuevos en su lugar
+        private final boolean desplazados; // true si los tokens posteriores cambiaron de línea o columna
+
+        Relexado(BufferTokens tokens, int primerCambio, int numViejos, int numNuevos, boolean desplazados) {
+            this.tokens = tokens;
+            this.primerCambio = primerCambio;
+            this.numViejos = numViejos;
+            this.numNuevos = numNuevos;
+            this.desplazados = desplazados;
+        }
+
+        // Getters
+        public BufferTokens getTokens() {
+            return tokens;
+        }
+
+        public int getPrimerCambio() {
+            return primerCambio;
+        }
+
+        public int getNumViejos() {
+            return numViejos;
+        }
+
+        public int getNumNuevos() {
+            return numNuevos;
+        }
+
+        public boolean isDesplazados() {
+            return desplazados;
+        }
+    }
+
+    /**
+     * Estado del analizador en el momento de empezar un análisis: los tokens
+     * confirmados y las ediciones posteriores. Es inmutable, así que el
+     * análisis puede hacerse en otro hilo mientras el documento sigue cambiando.
+     */
+    public static final class Instantanea {
+        private final BufferTokens tokens;
+        private final Edicion edicion;
+
+        Instantanea(BufferTokens tokens, Edicion edicion) {
+            this.tokens = tokens;
+            this.edicion = edicion;
+        }
+
+        public BufferTokens getTokens() {
+            return tokens;
+        }
+    }
+
+    // Cada cuántos tokens se comprueba si se canceló el análisis
+    private static final int INTERVALO_CANCELACION = 1024;
+
+    private BufferTokens tokens; // Tokens del último texto analizado (null si no hay)
+    private Edicion pendiente; // Cambios desde el último análisis (null si no hay)
+
+    /**
+     * Registra una edición del documento
+     *
+     * @param offset     Posición de la edición en el texto actual
+     * @param eliminados Caracteres eliminados
+     * @param insertados Caracteres insertados
+     */
+    public void registrarEdicion(int offset, int eliminados, int insertados) {
+        if (pendiente == null) {
+            pendiente = new Edicion(offset, offset + eliminados, insertados - eliminados);
+        } else {
+            pendiente = pendiente.combinar(offset, eliminados, insertados);
+        }
+    }
+
+    /**
+     * Descarta los tokens guardados; el próximo análisis será completo
+     */
+    public void invalidar() {
+        tokens = null;
+        pendiente = null;
+    }
+
+    /**
+     * Tokens del último análisis
+     *
+     * @return Buffer de tokens, o null si aún no se ha analizado nada
+     */
+    public BufferTokens getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Vuelve a analizar el texto reutilizando todo lo posible del análisis
+     * anterior y guarda el resultado
+     *
+     * @param texto Texto actual del documento
+     * @return Nuevo buffer y rango de tokens modificado
+     */
+    public Relexado actualizar(String texto) {
+        Instantanea instantanea = iniciar();
+        Relexado r = relexar(instantanea, texto);
+        confirmar(instantanea, r);
+        return r;
+    }
+
+    /**
+     * Empieza un análisis: toma los tokens y las ediciones pendientes. Las
+     * ediciones que lleguen después se acumulan aparte, relativas al texto de
+     * la instantánea.
+     *
+     * @return Instantanea para {@link #relexar(Instantanea, String)}
+     */
+    public Instantanea iniciar() {
+        Instantanea instantanea = new Instantanea(tokens, pendiente);
+        pendiente = null;
+        return instantanea;
+    }
+
+    /**
+     * Guarda el resultado de un análisis terminado
+     *
+     * @param instantanea Instantánea con la que se empezó el análisis
+     * @param r           Resultado del análisis
+     */
+    public void confirmar(Instantanea instantanea, Relexado r) {
+        tokens = r.getTokens();
+    }
+
+    /**
+     * Descarta un análisis cancelado o fallido: las ediciones de su
+     * instantánea vuelven a quedar pendientes, junto con las posteriores
+     *
+     * @param instantanea Instantánea con la que se empezó el análisis
+     */
+    public void descartar(Instantanea instantanea) {
+        Edicion anterior = instantanea.edicion;
+        if (anterior == null) {
+            return;
+        }
+        if (pendiente == null) {
+            pendiente = anterior;
+        } else {
+            // La edición posterior equivale a reemplazar [inicio, finViejo) por el texto nuevo
+            int eliminados = pendiente.finViejo - pendiente.inicio;
+            pendiente = anterior.combinar(pendiente.inicio, eliminados, eliminados + pendiente.delta);
+        }
+    }
+
+    /**
+     * Calcula el nuevo buffer de tokens a partir de una instantánea, sin
+     * modificar el estado guardado. Puede ejecutarse fuera del hilo de Swing y
+     * se detiene con CancellationException si el hilo es interrumpido.
+     *
+     * @param instantanea Instantánea tomada con {@link #iniciar()}
+     * @param texto       Texto del documento en ese momento
+     * @return Nuevo buffer y rango de tokens modificado
+     */
+    public static Relexado relexar(Instantanea instantanea, String texto) {
+        BufferTokens tokens = instantanea.tokens;
+        Edicion pendiente = instantanea.edicion;
+
+        if (tokens == null) {
+            BufferTokens nuevos = escanear(texto, 0, Lexer.YYINITIAL, 0, new BufferTokens(texto), null);
+            return new Relexado(nuevos, 0, 0, nuevos.size(), false);
+        }
+        if (pendiente == null) {
+            return new Relexado(tokens, tokens.size(), 0, 0, false);
+        }
+
+        BufferTokens viejos = tokens;
+        int inicio = pendiente.inicio;
+        int finNuevo = pendiente.finViejo + pendiente.delta;
+        int delta = pendiente.delta;
+
+        // Punto de control: inicio de la línea donde empieza la edición. Los tokens
+        // no cruzan saltos de línea, así que los anteriores no cambian.
+        int puntoControl = inicioDeLinea(texto, inicio);
+        int primerCambio = viejos.buscarDesde(puntoControl);
+
+        // Estado léxico y línea en el punto de control
+        int estado = Lexer.YYINITIAL;
+        int linea;
+        if (primerCambio > 0) {
+            if (despuesDePunto(viejos, texto, primerCambio)) {
+                estado = Lexer.AFTER_DOT;
+            }
+            // Desde el inicio del token: los símbolos no reconocidos que cambian de
+            // línea son tokens
+            linea = viejos.getLinea(primerCambio - 1) - 1
+                    + contarLineas(texto, viejos.getInicio(primerCambio - 1), puntoControl);
+        } else {
+            linea = contarLineas(texto, 0, puntoControl);
+        }
+
+        // Copiar los tokens que no cambian y escanear desde el punto de control
+        BufferTokens resultado = new BufferTokens(texto);
+        resultado.agregarRango(viejos, 0, primerCambio);
+        int[] sincronia = new int[2];
+        escanear(texto, puntoControl, estado, linea, resultado,
+                new Sincronizador(viejos, primerCambio, finNuevo, delta, sincronia));
+
+        int nuevoFinal = sincronia[0];
+        int viejoSincronizado = sincronia[1];
+        if (viejoSincronizado < 0) {
+            // Se llegó al final del texto sin volver a coincidir
+            return new Relexado(resultado, primerCambio, viejos.size() - primerCambio,
+                    resultado.size() - primerCambio, false);
+        }
+
+        // Reutilizar los tokens viejos desde el punto de sincronía, desplazados
+        int deltaLinea = resultado.getLinea(nuevoFinal) - viejos.getLinea(viejoSincronizado);
+        int deltaColumna = resultado.getColumna(nuevoFinal) - viejos.getColumna(viejoSincronizado);
+        int lineaSincronia = viejos.getLinea(viejoSincronizado);
+
+        resultado.truncar(nuevoFinal);
+        resultado.agregarDesplazados(viejos, viejoSincronizado, viejos.size(), delta, deltaLinea,
+                lineaSincronia, deltaColumna);
+
+        return new Relexado(resultado, primerCambio, viejoSincronizado - primerCambio, nuevoFinal - primerCambio,
+                deltaLinea != 0 || deltaColumna != 0 || delta != 0);
+    }
+
+    /**
+     * Resultado equivalente a volver a analizar todo el texto cuando sus tokens
+     * ya se conocen (por ejemplo, de la caché de análisis)
+     *
+     * @param instantanea Instantánea tomada con {@link #iniciar()}
+     * @param tokens      Tokens del texto actual
+     * @return Relexado que reemplaza todos los tokens anteriores
+     */
+    public static Relexado reemplazar(Instantanea instantanea, BufferTokens tokens) {
+        if (instantanea.tokens == tokens) {
+            return new Relexado(tokens, tokens.size(), 0, 0, false);
+        }
+        int numViejos = instantanea.tokens != null ? instantanea.tokens.size() : 0;
+        return new Relexado(tokens, 0, numViejos, tokens.size(), false);
+    }
+
+    /**
+     * Decide cuándo el escaneo vuelve a coincidir con los tokens anteriores: un
+     * token nuevo posterior a la edición que empieza donde empezaba un token
+     * viejo (desplazado) y con el mismo estado léxico. A partir de ahí el texto
+     * y el estado son idénticos, así que el resto de tokens también lo es.
+     */
+    private static final class Sincronizador {
+        private final BufferTokens viejos;
+        private final int finNuevo;
+        private final int delta;
+        private final int[] sincronia; // [índice en el buffer nuevo, índice en el viejo]
+        private int indiceViejo;
+
+        Sincronizador(BufferTokens viejos, int desde, int finNuevo, int delta, int[] sincronia) {
+            this.viejos = viejos;
+            this.indiceViejo = desde;
+            this.finNuevo = finNuevo;
+            this.delta = delta;
+            this.sincronia = sincronia;
+            sincronia[1] = -1;
+        }
+
+        /**
+         * Comprueba el último token añadido al buffer nuevo
+         *
+         * @return true si ya se puede dejar de escanear
+         */
+        boolean sincronizado(BufferTokens nuevos) {
+            int j = nuevos.size() - 1;
+            int inicio = nuevos.getInicio(j);
+            if (inicio < finNuevo) {
+                return false;
+            }
+
+            int inicioViejo = inicio - delta;
+            while (indiceViejo < viejos.size() && viejos.getInicio(indiceViejo) < inicioViejo) {
+                indiceViejo++;
+            }
+            if (indiceViejo >= viejos.size() || viejos.getInicio(indiceViejo) != inicioViejo) {
+                return false;
+            }
+
+            boolean puntoNuevo = despuesDePunto(nuevos, nuevos.getFuente(), j);
+            boolean puntoViejo = despuesDePunto(viejos, viejos.getFuente(), indiceViejo);
+            if (puntoNuevo != puntoViejo) {
+                return false;
+            }
+
+            sincronia[0] = j;
+            sincronia[1] = indiceViejo;
+            return true;
+        }
+    }
+
+    /**
+     * Escanea el texto desde una posición, añadiendo los tokens al buffer,
+     * hasta el final o hasta que el sincronizador indique que puede parar
+     */
+    private static BufferTokens escanear(String texto, int inicio, int estado, int linea, BufferTokens destino,
+            Sincronizador sincronizador) {
+        Lexer lexer = new Lexer(texto, inicio, estado, linea);
+        lexer.setBuffer(destino);
+        try {
+            int contador = 0;
+            while (lexer.next_token().sym != sym.EOF) {
+                if (sincronizador != null && sincronizador.sincronizado(destino)) {
+                    break;
+                }
+                if (++contador % INTERVALO_CANCELACION == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Análisis léxico cancelado");
+                }
+            }
+        } catch (java.io.IOException e) {
+            // No ocurre al leer de un String
+            throw new java.io.UncheckedIOException(e);
+        }
+        return destino;
+    }
+
+    /**
+     * Indica si el lexer queda en AFTER_DOT antes de un token: después de un
+     * PUNTO, saltándose los símbolos no reconocidos que son saltos de línea
+     * (en AFTER_DOT no cambian el estado)
+     */
+    private static boolean despuesDePunto(BufferTokens tokens, CharSequence texto, int indice) {
+        int j = indice - 1;
+        while (j >= 0 && tokens.getTipo(j) == BufferTokens.ERROR
+                && IndiceLineas.esSaltoDeLinea(texto.charAt(tokens.getInicio(j)))) {
+            j--;
+        }
+        return j >= 0 && tokens.getSimbolo(j) == sym.PUNTO;
+    }
+
+    /**
+     * Inicio de la línea que contiene una posición. Un \r seguido de \n es un
+     * solo salto, así que no se empieza entre los dos
+     */
+    private static int inicioDeLinea(String texto, int posicion) {
+        for (int i = posicion - 1; i >= 0; i--) {
+            char c = texto.charAt(i);
+            if (IndiceLineas.esSaltoDeLinea(c)
+                    && !(c == '\r' && i + 1 < texto.length() && texto.charAt(i + 1) == '\n')) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Cuenta los saltos de línea en un rango del texto (\r\n cuenta como uno)
+     */
+    private static int contarLineas(String texto, int desde, int hasta) {
+        int lineas = 0;
+        for (int i = desde; i < hasta; i++) {
+            char c = texto.charAt(i);
+            if (IndiceLineas.esSaltoDeLinea(c)
+                    && !(c == '\r' && i + 1 < hasta && texto.charAt(i + 1) == '\n')) {
+                lineas++;
+            }
+        }
+        return lineas;
+    }
+}
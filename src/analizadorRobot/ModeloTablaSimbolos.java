@@ -0,0 +1,64 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Modelo de la tabla de símbolos. Las filas se reemplazan todas a la vez con
+ * un único evento para la tabla.
+ */
+public class ModeloTablaSimbolos extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMNAS = { "Nombre", "Tipo", "Valor", "Parámetros", "Rango", "Línea",
+            "Columna" };
+
+    private List<Object[]> filas = new ArrayList<>();
+
+    /**
+     * Reemplaza el contenido de la tabla
+     *
+     * @param filas Filas con un valor por columna
+     */
+    public void setFilas(List<Object[]> filas) {
+        this.filas = filas;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Vacía la tabla
+     */
+    public void limpiar() {
+        setFilas(new ArrayList<>());
+    }
+
+    @Override
+    public int getRowCount() {
+        return filas.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNAS.length;
+    }
+
+    @Override
+    public String getColumnName(int columna) {
+        return COLUMNAS[columna];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columna) {
+        // Las columnas de parámetros, línea y columna son números
+        if (columna == 3 || columna == 5 || columna == 6) {
+            return Integer.class;
+        }
+        return Object.class;
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        return filas.get(fila)[columna];
+    }
+}
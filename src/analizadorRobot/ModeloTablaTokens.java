@@ -0,0 +1,81 @@
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Modelo de la tabla de tokens. Lee directamente del {@link BufferTokens} del
+ * análisis léxico, así que no copia los tokens a filas: cada celda se
+ * obtiene cuando la tabla la pinta.
+ */
+public class ModeloTablaTokens extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMNAS = { "Lexema", "Tipo Token", "Línea", "Columna" };
+
+    private BufferTokens tokens; // Tokens mostrados (null si la tabla está vacía)
+
+    /**
+     * Reemplaza todos los tokens de la tabla
+     *
+     * @param tokens Nuevos tokens, o null para vaciar la tabla
+     */
+    public void setTokens(BufferTokens tokens) {
+        this.tokens = tokens;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Reemplaza los tokens cuando solo cambiaron las filas a partir de una
+     * posición y el número de filas es el mismo; se conserva la selección
+     *
+     * @param tokens Nuevos tokens
+     * @param desde  Primera fila que cambió
+     */
+    public void actualizarTokens(BufferTokens tokens, int desde) {
+        if (this.tokens == null || this.tokens.size() != tokens.size()) {
+            setTokens(tokens);
+            return;
+        }
+        this.tokens = tokens;
+        if (desde < tokens.size()) {
+            fireTableRowsUpdated(desde, tokens.size() - 1);
+        }
+    }
+
+    /**
+     * Tokens que muestra la tabla
+     *
+     * @return Buffer de tokens, o null si la tabla está vacía
+     */
+    public BufferTokens getTokens() {
+        return tokens;
+    }
+
+    @Override
+    public int getRowCount() {
+        return tokens == null ? 0 : tokens.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNAS.length;
+    }
+
+    @Override
+    public String getColumnName(int columna) {
+        return COLUMNAS[columna];
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        switch (columna) {
+            case 0:
+                return tokens.getLexema(fila);
+            case 1:
+                return tokens.getTipoToken(fila);
+            case 2:
+                return tokens.getLinea(fila);
+            default:
+                return tokens.getColumna(fila);
+        }
+    }
+}
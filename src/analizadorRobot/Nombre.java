@@ -0,0 +1,34 @@
+/**
+ * Nombre (identificador) internado por {@link TablaNombres}: cada nombre
+ * distinto del programa tiene un único objeto Nombre con un id denso, así que
+ * las tablas pueden indexarse por id y compararse por referencia.
+ */
+public final class Nombre {
+    private final int id; // Índice del nombre en su tabla, desde 0
+    private final String texto;
+    final int hash;
+
+    Nombre(int id, String texto, int hash) {
+        this.id = id;
+        this.texto = texto;
+        this.hash = hash;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    public int length() {
+        return texto.length();
+    }
+
+    @Override
+    public String toString() {
+        return texto;
+    }
+}
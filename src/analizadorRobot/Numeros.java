@@ -0,0 +1,72 @@
+/**
+ * Redondeo de los números con decimales a su valor entero, compartido por
+ * {@link Lexer} y {@link EscanerBytes} para que los dos entreguen siempre el
+ * mismo valor. Cada escáner lee los dígitos de su propio buffer (caracteres o
+ * bytes) y usa estos métodos para decidir el resultado.
+ *
+ * El valor es el de Math.round(Float.parseFloat(lexema)); la vía rápida lo
+ * calcula sin crear el lexema para los números habituales.
+ */
+public final class Numeros {
+
+    // Resultado de redondear cuando hay que usar la vía exacta
+    public static final int SIN_REDONDEO_RAPIDO = -1;
+
+    // Límites de la vía rápida: la parte entera cabe en un int y la decimal en
+    // un long
+    private static final int MAX_DIGITOS_ENTEROS = 6;
+    private static final int MAX_DECIMALES = 15;
+
+    private Numeros() {
+    }
+
+    /**
+     * Indica si un número se puede redondear por la vía rápida
+     *
+     * @param digitosEnteros Dígitos antes del punto
+     * @param decimales      Dígitos después del punto
+     * @return false si es muy grande o muy preciso y hay que usar
+     *         {@link #redondear(String)}
+     */
+    public static boolean admiteRedondeoRapido(int digitosEnteros, int decimales) {
+        return digitosEnteros <= MAX_DIGITOS_ENTEROS && decimales <= MAX_DECIMALES;
+    }
+
+    /**
+     * Redondea un número dado por su parte entera y su parte decimal
+     * (numerador sobre 10^decimales)
+     *
+     * @param entero    Parte entera
+     * @param numerador Dígitos decimales como entero
+     * @param escala    10 elevado al número de decimales
+     * @return Valor redondeado, o SIN_REDONDEO_RAPIDO si la parte decimal está
+     *         tan cerca de 0.5 que el redondeo al float puede cruzar la mitad
+     */
+    public static int redondear(int entero, long numerador, long escala) {
+        if (escala == 1) {
+            return entero;
+        }
+
+        // Comparar la parte decimal con 0.5 de forma exacta
+        long mitad = escala / 2;
+        if (numerador == mitad) {
+            return entero + 1;
+        }
+
+        double distancia = Math.abs(numerador - mitad) / (double) escala;
+        if (distancia <= 2 * Math.ulp((float) (entero + 1))) {
+            return SIN_REDONDEO_RAPIDO;
+        }
+        return numerador > mitad ? entero + 1 : entero;
+    }
+
+    /**
+     * Vía exacta: redondea el texto del número
+     *
+     * @param lexema Texto del número
+     * @return Valor redondeado
+     */
+    public static int redondear(String lexema) {
+        return Math.round(Float.parseFloat(lexema));
+    }
+}
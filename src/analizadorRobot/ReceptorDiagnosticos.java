@@ -0,0 +1,15 @@
+/**
+ * Destino de los diagnósticos que producen el lexer y el parser. Permite que
+ * cada uso decida qué hacer con ellos (guardarlos, contarlos, mostrarlos) sin
+ * que el análisis imprima nada por su cuenta.
+ */
+@FunctionalInterface
+public interface ReceptorDiagnosticos {
+
+    /**
+     * Recibe un diagnóstico en el momento en que se detecta
+     *
+     * @param diagnostico Diagnóstico encontrado
+     */
+    void reportar(Diagnostico diagnostico);
+}
@@ -0,0 +1,61 @@
+import java.util.ArrayList;
+
+/**
+ * Clase que agrupa el resultado del análisis léxico y sintáctico de un
+ * programa
+ */
+public class ResultadoAnalisis {
+    private int numTokens; // Número de tokens reconocidos
+    private ArrayList<Diagnostico> erroresLexicos; // Errores del análisis léxico
+    private ArrayList<Diagnostico> errores; // Errores sintácticos y semánticos
+    private TablaSimbolo tablaSimbolo; // Tabla de símbolos resultante
+    private Arbol arbol; // Árbol sintáctico del programa
+
+    /**
+     * Constructor de la clase ResultadoAnalisis
+     *
+     * @param numTokens      Número de tokens reconocidos
+     * @param erroresLexicos Errores del análisis léxico
+     * @param errores        Errores sintácticos y semánticos
+     * @param tablaSimbolo   Tabla de símbolos resultante
+     * @param arbol          Árbol sintáctico del programa
+     */
+    public ResultadoAnalisis(int numTokens, ArrayList<Diagnostico> erroresLexicos, ArrayList<Diagnostico> errores,
+            TablaSimbolo tablaSimbolo, Arbol arbol) {
+        this.numTokens = numTokens;
+        this.erroresLexicos = erroresLexicos;
+        this.errores = errores;
+        this.tablaSimbolo = tablaSimbolo;
+        this.arbol = arbol;
+    }
+
+    // Getters
+    public int getNumTokens() {
+        return numTokens;
+    }
+
+    public ArrayList<Diagnostico> getErroresLexicos() {
+        return erroresLexicos;
+    }
+
+    public ArrayList<Diagnostico> getErrores() {
+        return errores;
+    }
+
+    public TablaSimbolo getTablaSimbolo() {
+        return tablaSimbolo;
+    }
+
+    public Arbol getArbol() {
+        return arbol;
+    }
+
+    /**
+     * Número total de errores (léxicos, sintácticos y semánticos)
+     *
+     * @return Total de errores encontrados
+     */
+    public int getNumErrores() {
+        return erroresLexicos.size() + errores.size();
+    }
+}
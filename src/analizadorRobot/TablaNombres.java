@@ -0,0 +1,153 @@
+import java.util.Arrays;
+
+/**
+ * Tabla que interna los identificadores del programa a ids enteros densos.
+ *
+ * Es una tabla hash de direccionamiento abierto (sondeo lineal) sobre los
+ * caracteres: se puede buscar un nombre directamente en el buffer del lexer o
+ * en el texto fuente, sin crear un String salvo la primera vez que aparece.
+ */
+public class TablaNombres {
+
+    private Nombre[] tabla = new Nombre[64]; // Tamaño siempre potencia de 2
+    private Nombre[] nombres = new Nombre[32]; // Nombres indexados por id
+    private int numNombres = 0;
+
+    /**
+     * Interna un nombre que está en un arreglo de caracteres
+     *
+     * @param texto    Arreglo con el nombre
+     * @param inicio   Posición del primer carácter
+     * @param longitud Número de caracteres
+     * @return Nombre internado
+     */
+    public Nombre internar(char[] texto, int inicio, int longitud) {
+        int hash = 0;
+        for (int i = inicio; i < inicio + longitud; i++) {
+            hash = 31 * hash + texto[i];
+        }
+
+        int mascara = tabla.length - 1;
+        for (int slot = mezclar(hash) & mascara;; slot = (slot + 1) & mascara) {
+            Nombre nombre = tabla[slot];
+            if (nombre == null) {
+                return agregar(slot, new String(texto, inicio, longitud), hash);
+            }
+            if (nombre.hash == hash && iguales(nombre.getTexto(), texto, inicio, longitud)) {
+                return nombre;
+            }
+        }
+    }
+
+    /**
+     * Interna un nombre que está en un texto
+     *
+     * @param texto  Texto con el nombre
+     * @param inicio Posición del primer carácter
+     * @param fin    Posición siguiente al último carácter
+     * @return Nombre internado
+     */
+    public Nombre internar(CharSequence texto, int inicio, int fin) {
+        int hash = 0;
+        for (int i = inicio; i < fin; i++) {
+            hash = 31 * hash + texto.charAt(i);
+        }
+
+        int mascara = tabla.length - 1;
+        for (int slot = mezclar(hash) & mascara;; slot = (slot + 1) & mascara) {
+            Nombre nombre = tabla[slot];
+            if (nombre == null) {
+                return agregar(slot, texto.subSequence(inicio, fin).toString(), hash);
+            }
+            if (nombre.hash == hash && iguales(nombre.getTexto(), texto, inicio, fin)) {
+                return nombre;
+            }
+        }
+    }
+
+    /**
+     * Interna un nombre completo
+     *
+     * @param texto Nombre
+     * @return Nombre internado
+     */
+    public Nombre internar(String texto) {
+        return internar(texto, 0, texto.length());
+    }
+
+    /**
+     * Obtiene un nombre a partir de su id
+     *
+     * @param id Id del nombre
+     * @return Nombre con ese id
+     */
+    public Nombre getNombre(int id) {
+        return nombres[id];
+    }
+
+    /**
+     * Número de nombres distintos internados; los ids van de 0 a size() - 1
+     *
+     * @return Cantidad de nombres
+     */
+    public int size() {
+        return numNombres;
+    }
+
+    private Nombre agregar(int slot, String texto, int hash) {
+        Nombre nombre = new Nombre(numNombres, texto, hash);
+        if (numNombres == nombres.length) {
+            nombres = Arrays.copyOf(nombres, numNombres * 2);
+        }
+        nombres[numNombres++] = nombre;
+        tabla[slot] = nombre;
+
+        // Mantener la ocupación por debajo de la mitad
+        if (numNombres * 2 > tabla.length) {
+            redimensionar();
+        }
+        return nombre;
+    }
+
+    private void redimensionar() {
+        Nombre[] nueva = new Nombre[tabla.length * 2];
+        int mascara = nueva.length - 1;
+        for (int i = 0; i < numNombres; i++) {
+            int slot = mezclar(nombres[i].hash) & mascara;
+            while (nueva[slot] != null) {
+                slot = (slot + 1) & mascara;
+            }
+            nueva[slot] = nombres[i];
+        }
+        tabla = nueva;
+    }
+
+    // Reparte los bits altos del hash sobre los bajos, que son los que usa la máscara
+    private static int mezclar(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean iguales(String nombre, char[] texto, int inicio, int longitud) {
+        if (nombre.length() != longitud) {
+            return false;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if (nombre.charAt(i) != texto[inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean iguales(String nombre, CharSequence texto, int inicio, int fin) {
+        if (nombre.length() != fin - inicio) {
+            return false;
+        }
+        for (int i = inicio; i < fin; i++) {
+            if (nombre.charAt(i - inicio) != texto.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,7 @@
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Clase que implementa una tabla de símbolos mejorada para el lenguaje de
@@ -7,12 +9,19 @@ import java.util.HashMap;
  */
 public class TablaSimbolo {
 
+    /**
+     * Tipos de símbolo
+     */
+    public enum TipoSimbolo {
+        ROBOT, METODO
+    }
+
     /**
      * Clase interna para almacenar información de un símbolo
      */
     public class SimboloInfo {
         private String nombre; // Nombre del símbolo
-        private String tipo; // Tipo del símbolo (ROBOT, METHOD, etc.)
+        private TipoSimbolo tipo; // Tipo del símbolo (ROBOT o METODO)
         private Object valor; // Valor del símbolo (si aplica)
         private int numParametros; // Número de parámetros (para métodos)
         private int minValor; // Valor mínimo permitido
@@ -20,7 +29,7 @@ public class TablaSimbolo {
         private int linea; // Línea donde se definió
         private int columna; // Columna donde se definió
 
-        public SimboloInfo(String nombre, String tipo) {
+        public SimboloInfo(String nombre, TipoSimbolo tipo) {
             this.nombre = nombre;
             this.tipo = tipo;
             this.valor = null;
@@ -31,7 +40,7 @@ public class TablaSimbolo {
             this.columna = 0;
         }
 
-        public SimboloInfo(String nombre, String tipo, Object valor, int numParametros, int minValor, int maxValor) {
+        public SimboloInfo(String nombre, TipoSimbolo tipo, Object valor, int numParametros, int minValor, int maxValor) {
             this.nombre = nombre;
             this.tipo = tipo;
             this.valor = valor;
@@ -42,7 +51,7 @@ public class TablaSimbolo {
             this.columna = 0;
         }
 
-        public SimboloInfo(String nombre, String tipo, Object valor, int numParametros, int minValor, int maxValor,
+        public SimboloInfo(String nombre, TipoSimbolo tipo, Object valor, int numParametros, int minValor, int maxValor,
                 int linea, int columna) {
             this.nombre = nombre;
             this.tipo = tipo;
@@ -59,7 +68,7 @@ public class TablaSimbolo {
             return nombre;
         }
 
-        public String getTipo() {
+        public TipoSimbolo getTipo() {
             return tipo;
         }
 
@@ -108,114 +117,277 @@ public class TablaSimbolo {
         }
     }
 
-    // Estructura de datos para almacenar los símbolos
-    private HashMap<String, SimboloInfo> simbolos;
-    private HashMap<String, SimboloInfo> metodos;
-
     /**
-     * Constructor de la tabla de símbolos
+     * Uso de un método o propiedad de un robot, registrado por el parser al
+     * reconocer la instrucción
      */
-    public TablaSimbolo() {
-        simbolos = new HashMap<>();
-        metodos = new HashMap<>();
+    public static class UsoMetodo {
+        private String robot; // Robot sobre el que se usa
+        private String metodo; // Nombre del método o propiedad
+        private Integer argumento; // Valor pasado o asignado (null si no tiene)
+        private boolean asignacion; // true si es una asignación (r1.base = 90)
+        private int linea; // Línea del nombre del método
+        private int columna; // Columna del nombre del método
+
+        /**
+         * @param metodo     Nombre del método o propiedad
+         * @param argumento  Valor pasado o asignado, o null si no tiene
+         * @param asignacion true si es una asignación
+         * @param linea      Línea (comenzando en 0, como la entrega el lexer)
+         * @param columna    Columna (comenzando en 0)
+         */
+        public UsoMetodo(String metodo, Integer argumento, boolean asignacion, int linea, int columna) {
+            this.metodo = metodo;
+            this.argumento = argumento;
+            this.asignacion = asignacion;
+            this.linea = linea + 1; // Ajustando a base 1
+            this.columna = columna + 1;
+        }
 
-        // Añadir métodos predefinidos con sus rangos
-        agregarMetodo("base", 1, 0, 360);
-        agregarMetodo("cuerpo", 1, 0, 180);
-        agregarMetodo("garra", 1, 0, 90);
-        agregarMetodo("velocidad", 1, 1, 100);
-        agregarMetodo("abrirGarra", 0, 0, 0);
-        agregarMetodo("cerrarGarra", 0, 0, 0);
-        agregarMetodo("repetir", 1, 1, Integer.MAX_VALUE);
-        agregarMetodo("iniciar", 0, 0, 0);
-        agregarMetodo("detener", 0, 0, 0);
+        // Getters
+        public String getRobot() {
+            return robot;
+        }
+
+        public String getMetodo() {
+            return metodo;
+        }
+
+        public Integer getArgumento() {
+            return argumento;
+        }
+
+        public boolean isAsignacion() {
+            return asignacion;
+        }
+
+        public int getLinea() {
+            return linea;
+        }
+
+        public int getColumna() {
+            return columna;
+        }
+
+        @Override
+        public String toString() {
+            return "UsoMetodo[robot=" + robot + ", method=" + metodo + ", arg=" + argumento +
+                    ", pos=(" + linea + "," + columna + ")]";
+        }
     }
 
+    // Robots declarados, indexados por el id de su nombre (null si no está
+    // declarado) y en orden de declaración
+    private SimboloInfo[] robots;
+    private ArrayList<SimboloInfo> simbolos;
+    // Métodos predefinidos, indexados por su terminal (constante de sym)
+    private SimboloInfo[] metodos;
+    private ArrayList<UsoMetodo> usos; // Usos de métodos en orden de aparición
+
+    // Índice de definiciones y usos de cada robot, por id de nombre: las
+    // posiciones (empaquetadas como en Arbol.posicion) de todas sus
+    // declaraciones y referencias, en el orden en que el parser las reconoce
+    // (las acciones dentro de un bloque repetir llegan antes que el bloque)
+    private Nombre[] nombres;
+    private long[][] declaraciones;
+    private int[] numDeclaraciones;
+    private long[][] referencias;
+    private int[] numReferencias;
+    private boolean completa = false; // true si las referencias ya están ordenadas
+
     /**
-     * Añade un símbolo a la tabla
-     * 
-     * @param nombre Nombre del símbolo
-     * @param tipo   Tipo del símbolo
-     * @return true si se añadió correctamente, false si ya existía
+     * Constructor de la tabla de símbolos
      */
-    public boolean agregarSimbolo(String nombre, String tipo) {
-        if (!simbolos.containsKey(nombre)) {
-            simbolos.put(nombre, new SimboloInfo(nombre, tipo));
-            return true;
-        }
-        return false;
+    public TablaSimbolo() {
+        robots = new SimboloInfo[16];
+        nombres = new Nombre[16];
+        declaraciones = new long[16][];
+        numDeclaraciones = new int[16];
+        referencias = new long[16][];
+        numReferencias = new int[16];
+        simbolos = new ArrayList<>();
+        metodos = new SimboloInfo[sym.terminalNames.length];
+        usos = new ArrayList<>();
+
+        // Añadir métodos predefinidos con sus rangos
+        agregarMetodo(sym.BASE, "base", 1, 0, 360);
+        agregarMetodo(sym.CUERPO, "cuerpo", 1, 0, 180);
+        agregarMetodo(sym.GARRA, "garra", 1, 0, 90);
+        agregarMetodo(sym.VELOCIDAD, "velocidad", 1, 1, 100);
+        agregarMetodo(sym.ABRIR_GARRA, "abrirGarra", 0, 0, 0);
+        agregarMetodo(sym.CERRAR_GARRA, "cerrarGarra", 0, 0, 0);
+        agregarMetodo(sym.REPETIR, "repetir", 1, 1, Integer.MAX_VALUE);
+        agregarMetodo(sym.INICIAR, "iniciar", 0, 0, 0);
+        agregarMetodo(sym.DETENER, "detener", 0, 0, 0);
     }
 
     /**
-     * Añade un símbolo a la tabla con información de posición
+     * Añade un símbolo a la tabla con información de posición. La declaración
+     * queda en el índice de definiciones aunque el símbolo ya existiera
      * 
-     * @param nombre  Nombre del símbolo
+     * @param nombre  Nombre internado del símbolo
      * @param tipo    Tipo del símbolo
      * @param linea   Línea donde se definió
      * @param columna Columna donde se definió
      * @return true si se añadió correctamente, false si ya existía
      */
-    public boolean agregarSimbolo(String nombre, String tipo, int linea, int columna) {
-        if (!simbolos.containsKey(nombre)) {
-            SimboloInfo info = new SimboloInfo(nombre, tipo);
-            info.setLinea(linea + 1); // Ajustando a base 1 para mostrar líneas desde 1, no 0
-            info.setColumna(columna + 1); // Ajustando a base 1
-            simbolos.put(nombre, info);
-            return true;
-        }
-        return false;
+    public boolean agregarSimbolo(Nombre nombre, TipoSimbolo tipo, int linea, int columna) {
+        int id = nombre.getId();
+        asegurarId(nombre);
+        declaraciones[id] = agregarPosicion(declaraciones[id], numDeclaraciones[id]++, linea, columna);
+        if (robots[id] != null) {
+            return false;
+        }
+        SimboloInfo info = new SimboloInfo(nombre.getTexto(), tipo);
+        info.setLinea(linea + 1); // Ajustando a base 1 para mostrar líneas desde 1, no 0
+        info.setColumna(columna + 1); // Ajustando a base 1
+        robots[id] = info;
+        simbolos.add(info);
+        return true;
     }
 
     /**
      * Añade un método a la tabla con sus rangos de valores
      * 
+     * @param terminal      Terminal del método (constante de sym)
      * @param nombre        Nombre del método
      * @param numParametros Número de parámetros
      * @param minValor      Valor mínimo permitido
      * @param maxValor      Valor máximo permitido
      */
-    private void agregarMetodo(String nombre, int numParametros, int minValor, int maxValor) {
-        metodos.put(nombre, new SimboloInfo(nombre, "METODO", null, numParametros, minValor, maxValor));
+    private void agregarMetodo(int terminal, String nombre, int numParametros, int minValor, int maxValor) {
+        metodos[terminal] = new SimboloInfo(nombre, TipoSimbolo.METODO, null, numParametros, minValor, maxValor);
+    }
+
+    /**
+     * Registra una referencia a un robot (el robot de una acción)
+     * 
+     * @param nombre  Nombre internado del robot
+     * @param linea   Línea de la referencia (comenzando en 0)
+     * @param columna Columna de la referencia (comenzando en 0)
+     */
+    public void registrarReferencia(Nombre nombre, int linea, int columna) {
+        int id = nombre.getId();
+        asegurarId(nombre);
+        referencias[id] = agregarPosicion(referencias[id], numReferencias[id]++, linea, columna);
+        completa = false;
+    }
+
+    /**
+     * Ordena el índice de referencias una vez que la tabla está completa (al
+     * terminar el parser). Las acciones dentro de un bloque repetir se
+     * registran antes que el bloque, así que llegan desordenadas
+     */
+    public void completar() {
+        if (completa) {
+            return;
+        }
+        for (int id = 0; id < referencias.length; id++) {
+            if (referencias[id] != null) {
+                // Al empaquetar la línea en los bits altos, ordenar los long
+                // ordena por línea y columna
+                referencias[id] = Arrays.copyOf(referencias[id], numReferencias[id]);
+                Arrays.sort(referencias[id]);
+            }
+        }
+        completa = true;
+    }
+
+    // Agranda los arreglos indexados por id para que quepa el nombre
+    private void asegurarId(Nombre nombre) {
+        int id = nombre.getId();
+        if (id >= nombres.length) {
+            int capacidad = Math.max(nombres.length * 2, id + 1);
+            robots = Arrays.copyOf(robots, capacidad);
+            nombres = Arrays.copyOf(nombres, capacidad);
+            declaraciones = Arrays.copyOf(declaraciones, capacidad);
+            numDeclaraciones = Arrays.copyOf(numDeclaraciones, capacidad);
+            referencias = Arrays.copyOf(referencias, capacidad);
+            numReferencias = Arrays.copyOf(numReferencias, capacidad);
+        }
+        nombres[id] = nombre;
+    }
+
+    // Añade una posición (línea y columna desde 0) en el índice dado de un
+    // arreglo de posiciones, agrandándolo si hace falta
+    private static long[] agregarPosicion(long[] posiciones, int indice, int linea, int columna) {
+        if (posiciones == null) {
+            posiciones = new long[2];
+        } else if (indice == posiciones.length) {
+            posiciones = Arrays.copyOf(posiciones, indice * 2);
+        }
+        posiciones[indice] = Arbol.posicion(linea + 1, columna + 1);
+        return posiciones;
+    }
+
+    /**
+     * Registra el uso de un método o propiedad sobre un robot
+     * 
+     * @param robot Nombre del robot
+     * @param uso   Uso reconocido por el parser (puede ser null si la
+     *              instrucción tenía errores)
+     */
+    public void registrarUso(String robot, UsoMetodo uso) {
+        if (uso != null) {
+            uso.robot = robot;
+            usos.add(uso);
+        }
     }
 
     /**
      * Verifica si existe un símbolo en la tabla
      * 
-     * @param nombre Nombre del símbolo
+     * @param nombre Nombre internado del símbolo
      * @return true si existe, false si no
      */
-    public boolean simboloExiste(String nombre) {
-        return simbolos.containsKey(nombre);
+    public boolean simboloExiste(Nombre nombre) {
+        int id = nombre.getId();
+        return id < robots.length && robots[id] != null;
     }
 
     /**
      * Obtiene la información de un símbolo
      * 
-     * @param nombre Nombre del símbolo
+     * @param nombre Nombre internado del símbolo
      * @return Información del símbolo o null si no existe
      */
-    public SimboloInfo getSimboloInfo(String nombre) {
-        return simbolos.get(nombre);
+    public SimboloInfo getSimboloInfo(Nombre nombre) {
+        int id = nombre.getId();
+        return id < robots.length ? robots[id] : null;
     }
 
     /**
      * Obtiene la información de un método
      * 
+     * @param terminal Terminal del método (constante de sym)
+     * @return Información del método o null si no existe
+     */
+    public SimboloInfo getMetodoInfo(int terminal) {
+        return terminal >= 0 && terminal < metodos.length ? metodos[terminal] : null;
+    }
+
+    /**
+     * Obtiene la información de un método a partir de su nombre
+     * 
      * @param nombre Nombre del método
      * @return Información del método o null si no existe
      */
     public SimboloInfo getMetodoInfo(String nombre) {
-        return metodos.get(nombre);
+        for (SimboloInfo metodo : metodos) {
+            if (metodo != null && metodo.getNombre().equals(nombre)) {
+                return metodo;
+            }
+        }
+        return null;
     }
 
     /**
      * Obtiene todos los símbolos de la tabla
      * 
-     * @return Lista con todos los símbolos
+     * @return Lista con todos los símbolos, en orden de declaración
      */
     public ArrayList<SimboloInfo> getSimbolos() {
-        ArrayList<SimboloInfo> resultado = new ArrayList<>(simbolos.values());
-        return resultado;
+        return new ArrayList<>(simbolos);
     }
 
     /**
@@ -224,33 +396,82 @@ public class TablaSimbolo {
      * @return Lista con todos los métodos
      */
     public ArrayList<SimboloInfo> getMetodos() {
-        ArrayList<SimboloInfo> resultado = new ArrayList<>(metodos.values());
+        ArrayList<SimboloInfo> resultado = new ArrayList<>();
+        for (SimboloInfo metodo : metodos) {
+            if (metodo != null) {
+                resultado.add(metodo);
+            }
+        }
         return resultado;
     }
 
     /**
-     * Busca robots duplicados en la tabla de símbolos
+     * Obtiene los usos de métodos registrados durante el análisis
+     * 
+     * @return Lista de usos en orden de aparición (no modificable: la tabla
+     *         se comparte a través de la caché de análisis)
+     */
+    public List<UsoMetodo> getUsos() {
+        return Collections.unmodifiableList(usos);
+    }
+
+    /**
+     * Busca un nombre de robot que aparezca en el índice de definiciones y usos
+     * 
+     * @param robot Nombre del robot
+     * @return Nombre internado, o null si el robot no aparece en el programa
+     */
+    public Nombre buscarNombre(String robot) {
+        for (Nombre nombre : nombres) {
+            if (nombre != null && nombre.getTexto().equals(robot)) {
+                return nombre;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Nombres que aparecen en el índice de definiciones y usos
      * 
-     * @return Lista de errores encontrados
+     * @return Lista de nombres, ordenada por id
      */
-    public ArrayList<String> findDuplicateRobots() {
-        ArrayList<String> errores = new ArrayList<>();
-        HashMap<String, SimboloInfo> robotsEncontrados = new HashMap<>();
-
-        for (SimboloInfo simbolo : simbolos.values()) {
-            if (simbolo.getTipo().equals("ROBOT")) {
-                if (robotsEncontrados.containsKey(simbolo.getNombre())) {
-                    SimboloInfo first = robotsEncontrados.get(simbolo.getNombre());
-                    errores.add("Error semántico en línea " + simbolo.getLinea() + ", columna " + simbolo.getColumna() +
-                            ": Robot '" + simbolo.getNombre() + "' ya declarado previamente en línea " +
-                            first.getLinea() + ", columna " + first.getColumna());
-                } else {
-                    robotsEncontrados.put(simbolo.getNombre(), simbolo);
-                }
+    public ArrayList<Nombre> getNombres() {
+        ArrayList<Nombre> resultado = new ArrayList<>();
+        for (Nombre nombre : nombres) {
+            if (nombre != null) {
+                resultado.add(nombre);
             }
         }
+        return resultado;
+    }
+
+    /**
+     * Posiciones de todas las declaraciones de un robot, en orden de aparición
+     * 
+     * @param nombre Nombre internado del robot
+     * @return Posiciones empaquetadas (ver Arbol.posicion), vacío si no hay
+     */
+    public long[] getDeclaraciones(Nombre nombre) {
+        int id = nombre.getId();
+        return id < nombres.length && declaraciones[id] != null
+                ? Arrays.copyOf(declaraciones[id], numDeclaraciones[id])
+                : new long[0];
+    }
 
-        return errores;
+    /**
+     * Posiciones de todas las referencias a un robot, en el orden del código.
+     * Devuelve el arreglo del índice, que no se debe modificar
+     * 
+     * @param nombre Nombre internado del robot
+     * @return Posiciones empaquetadas (ver Arbol.posicion), vacío si no hay
+     */
+    public long[] getReferencias(Nombre nombre) {
+        int id = nombre.getId();
+        if (id >= nombres.length || referencias[id] == null) {
+            return new long[0];
+        }
+        completar();
+        return referencias[id];
     }
 
     /**
@@ -259,14 +480,14 @@ public class TablaSimbolo {
     public void imprimirTablaSimbolo() {
         System.out.println("===== TABLA DE SÍMBOLOS =====");
         System.out.println("--- Robots ---");
-        for (SimboloInfo simbolo : simbolos.values()) {
-            if (simbolo.getTipo().equals("ROBOT")) {
+        for (SimboloInfo simbolo : simbolos) {
+            if (simbolo.getTipo() == TipoSimbolo.ROBOT) {
                 System.out.println(simbolo);
             }
         }
 
         System.out.println("--- Métodos predefinidos ---");
-        for (SimboloInfo metodo : metodos.values()) {
+        for (SimboloInfo metodo : getMetodos()) {
             System.out.println(metodo);
         }
         System.out.println("============================");
@@ -0,0 +1,326 @@
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * Comprobación diferencial de los escáneres: compara {@link EscanerBytes} y
+ * {@link LexerIncremental} contra el Lexer generado por JFlex, que se toma
+ * como referencia.
+ *
+ * Con la misma semilla genera siempre las mismas entradas aleatorias. Por cada
+ * entrada compara los símbolos (tipo, posición y valor), las entradas del
+ * buffer de tokens y los diagnósticos léxicos. Las entradas mezclan palabras
+ * del lenguaje, todos los saltos de línea que reconoce el lexer, números en el
+ * límite del rango, caracteres multibyte y bytes UTF-8 no válidos. Para el
+ * lexer incremental se aplican ediciones aleatorias y se compara el buffer
+ * con el de un análisis completo del texto resultante.
+ *
+ * Termina con código 1 si encuentra alguna diferencia, e imprime la primera
+ * entrada distinta de cada comprobación.
+ *
+ * Uso: VerificarEscaneres [--semilla N] [--casos N]
+ */
+public class VerificarEscaneres {
+
+    private static final String USO = "Uso: VerificarEscaneres [--semilla N] [--casos N]";
+
+    // Fragmentos con los que se construyen las entradas
+    private static final String[] FRAGMENTOS = { "Robot", "Robots", "r1", "x_2", " ", "\t", "\n", "\r", "\r\n",
+            "\f", "\u000B", "\u0085", "\u2028", "\u2029", ".", "=", "(", ")", "{", "}", ",", ";", "+", "-", "*", "/",
+            "_", "0", "007", "12", "3.5", "12.", ".75", "0.5", "123456789.5", "1.0000000000000000005", "2147483647",
+            "2147483648", "99999999999", "iniciar", "detener", "base", "cuerpo", "garra", "velocidad", "abrirGarra",
+            "cerrarGarra", "repetir", "baseX", "ñ", "é", "€", "😀", "\u0000", "@", "#" };
+
+    // Fragmentos de las ediciones del lexer incremental
+    private static final String[] FRAGMENTOS_EDICION = { "r1", ".", " ", "\n", "base", "(3)", "=", "5", "\r",
+            "\r\n", "\f", "\u000B", "\u0085", "\u2028", "\u2029", "@", "iniciar" };
+
+    private static final String[] FRAGMENTOS_NO_ASCII = { "€", "😀", "ñ", " " };
+
+    private int diferencias = 0;
+
+    /**
+     * Compara EscanerBytes con el Lexer sobre una entrada
+     *
+     * @param bytes Entrada en UTF-8, posiblemente no válido
+     * @return null si coinciden, o la descripción de los dos resultados
+     * @throws Exception Si el lexer falla
+     */
+    public static String compararBytes(byte[] bytes) throws Exception {
+        String texto = new String(bytes, StandardCharsets.UTF_8);
+
+        Lexer lexer = new Lexer(new StringReader(texto));
+        List<Diagnostico> diagnosticosLexer = new ArrayList<>();
+        lexer.setReceptor(diagnosticosLexer::add);
+        StringBuilder esperado = new StringBuilder();
+        for (Symbol s = lexer.next_token(); ; s = lexer.next_token()) {
+            describir(esperado, s);
+            if (s.sym == sym.EOF) {
+                break;
+            }
+        }
+        describir(esperado, lexer.getTokens());
+        describir(esperado, diagnosticosLexer);
+
+        EscanerBytes escaner = new EscanerBytes(bytes);
+        List<Diagnostico> diagnosticosBytes = new ArrayList<>();
+        escaner.setReceptor(diagnosticosBytes::add);
+        BufferTokens tokens = new BufferTokens();
+        escaner.setBuffer(tokens);
+        StringBuilder obtenido = new StringBuilder();
+        for (Symbol s = escaner.next_token(); ; s = escaner.next_token()) {
+            describir(obtenido, s);
+            if (s.sym == sym.EOF) {
+                break;
+            }
+        }
+        describir(obtenido, tokens);
+        describir(obtenido, diagnosticosBytes);
+
+        if (esperado.toString().contentEquals(obtenido)) {
+            return null;
+        }
+        return escapar(texto) + "\n--- Lexer\n" + esperado + "--- EscanerBytes\n" + obtenido;
+    }
+
+    /**
+     * Compara el buffer del lexer incremental con el de un análisis completo
+     *
+     * @param incremental Lexer incremental ya actualizado con el texto
+     * @param texto       Texto actual
+     * @return null si coinciden, o la descripción de los dos buffers
+     * @throws Exception Si el lexer falla
+     */
+    public static String compararIncremental(LexerIncremental incremental, String texto) throws Exception {
+        Lexer lexer = new Lexer(texto);
+        while (lexer.next_token().sym != sym.EOF) {
+            // Solo interesa el buffer
+        }
+        StringBuilder esperado = new StringBuilder();
+        describir(esperado, lexer.getTokens());
+        StringBuilder obtenido = new StringBuilder();
+        describir(obtenido, incremental.getTokens());
+
+        if (esperado.toString().contentEquals(obtenido)) {
+            return null;
+        }
+        return escapar(texto) + "\n--- Lexer\n" + esperado + "--- LexerIncremental\n" + obtenido;
+    }
+
+    // Entradas cortas con fragmentos del lenguaje y bytes sueltos no válidos
+    private void verificarFragmentos(Random aleatorio, int casos) throws Exception {
+        String primera = null;
+        int antes = diferencias;
+        for (int caso = 0; caso < casos; caso++) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream();
+            for (int i = aleatorio.nextInt(60); i > 0; i--) {
+                int k = aleatorio.nextInt(FRAGMENTOS.length + 3);
+                if (k < FRAGMENTOS.length) {
+                    salida.writeBytes(FRAGMENTOS[k].getBytes(StandardCharsets.UTF_8));
+                } else {
+                    salida.write(0x80 + aleatorio.nextInt(128));
+                }
+            }
+            primera = anotar(primera, compararBytes(salida.toByteArray()));
+        }
+        informar("fragmentos", casos, antes, primera);
+    }
+
+    // Líneas largas de caracteres multibyte después de un punto, que cruzan
+    // el búfer de lectura de los escáneres
+    private void verificarNoAscii(Random aleatorio, int casos) throws Exception {
+        String primera = null;
+        int antes = diferencias;
+        for (int caso = 0; caso < casos; caso++) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream();
+            salida.writeBytes("r1.".getBytes(StandardCharsets.US_ASCII));
+            for (int i = 2000 + aleatorio.nextInt(5000); i > 0; i--) {
+                if (aleatorio.nextInt(50) == 0) {
+                    salida.write(0x80 + aleatorio.nextInt(128));
+                } else {
+                    String fragmento = FRAGMENTOS_NO_ASCII[aleatorio.nextInt(FRAGMENTOS_NO_ASCII.length)];
+                    salida.writeBytes(fragmento.getBytes(StandardCharsets.UTF_8));
+                }
+                if (aleatorio.nextInt(500) == 0) {
+                    salida.writeBytes("\nr1.base(3)\n".getBytes(StandardCharsets.US_ASCII));
+                }
+            }
+            primera = anotar(primera, compararBytes(salida.toByteArray()));
+        }
+        informar("no ASCII", casos, antes, primera);
+    }
+
+    // Números decimales con muchas cifras y casos de redondeo (un 5 seguido
+    // de ceros), que ponen a prueba el camino rápido de Numeros
+    private void verificarDecimales(Random aleatorio, int casos) throws Exception {
+        String primera = null;
+        int antes = diferencias;
+        for (int caso = 0; caso < casos; caso++) {
+            StringBuilder sb = new StringBuilder();
+            int enteros = aleatorio.nextInt(9);
+            int decimales = aleatorio.nextInt(18);
+            if (aleatorio.nextInt(10) > 0 || decimales == 0) {
+                for (int i = Math.max(enteros, 1); i > 0; i--) {
+                    sb.append((char) ('0' + aleatorio.nextInt(10)));
+                }
+            }
+            sb.append('.');
+            if (aleatorio.nextInt(4) == 0 && decimales > 0) {
+                sb.append('5');
+                for (int i = 1; i < decimales; i++) {
+                    sb.append(aleatorio.nextBoolean() ? '0' : (char) ('0' + aleatorio.nextInt(10)));
+                }
+            } else {
+                for (int i = 0; i < decimales; i++) {
+                    sb.append((char) ('0' + aleatorio.nextInt(10)));
+                }
+            }
+            primera = anotar(primera, compararBytes(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+        }
+        informar("decimales", casos, antes, primera);
+    }
+
+    // Ediciones aleatorias sobre el lexer incremental
+    private void verificarIncremental(Random aleatorio, int casos) throws Exception {
+        String primera = null;
+        int antes = diferencias;
+        for (int caso = 0; caso < casos; caso++) {
+            LexerIncremental incremental = new LexerIncremental();
+            StringBuilder texto = new StringBuilder();
+            for (int i = aleatorio.nextInt(30); i > 0; i--) {
+                texto.append(FRAGMENTOS_EDICION[aleatorio.nextInt(FRAGMENTOS_EDICION.length)]);
+            }
+            incremental.actualizar(texto.toString());
+
+            for (int edicion = 0; edicion < 8; edicion++) {
+                int offset = aleatorio.nextInt(texto.length() + 1);
+                int eliminados = Math.min(aleatorio.nextInt(4), texto.length() - offset);
+                StringBuilder insertado = new StringBuilder();
+                for (int i = aleatorio.nextInt(3); i > 0; i--) {
+                    insertado.append(FRAGMENTOS_EDICION[aleatorio.nextInt(FRAGMENTOS_EDICION.length)]);
+                }
+                texto.replace(offset, offset + eliminados, insertado.toString());
+                incremental.registrarEdicion(offset, eliminados, insertado.length());
+
+                // A veces se acumulan varias ediciones antes de actualizar
+                if (aleatorio.nextBoolean() || edicion == 7) {
+                    incremental.actualizar(texto.toString());
+                    String diferencia = compararIncremental(incremental, texto.toString());
+                    if (diferencia != null) {
+                        primera = anotar(primera, diferencia);
+                        break;
+                    }
+                }
+            }
+        }
+        informar("incremental", casos, antes, primera);
+    }
+
+    private String anotar(String primera, String diferencia) {
+        if (diferencia == null) {
+            return primera;
+        }
+        diferencias++;
+        return primera == null ? diferencia : primera;
+    }
+
+    private void informar(String nombre, int casos, int antes, String primera) {
+        System.out.printf("%-12s %8d casos %6d diferencias%n", nombre, casos, diferencias - antes);
+        if (primera != null) {
+            System.out.println(primera);
+        }
+    }
+
+    private static void describir(StringBuilder sb, Symbol s) {
+        sb.append(s.sym).append(' ').append(s.left).append(':').append(s.right).append(' ');
+        if (s.value instanceof Diagnostico) {
+            describir(sb, (Diagnostico) s.value);
+        } else if (s.value instanceof Nombre) {
+            sb.append("nombre ").append(((Nombre) s.value).getTexto());
+        } else if (s.value != null) {
+            sb.append(s.value.getClass().getSimpleName()).append(' ').append(s.value);
+        }
+        sb.append('\n');
+    }
+
+    private static void describir(StringBuilder sb, BufferTokens tokens) {
+        for (int i = 0; i < tokens.size(); i++) {
+            sb.append(tokens.getTipo(i)).append(',').append(tokens.getSimbolo(i)).append(',')
+                    .append(tokens.getInicio(i)).append(',').append(tokens.getLongitud(i)).append(',')
+                    .append(tokens.getLinea(i)).append(',').append(tokens.getColumna(i)).append(';');
+        }
+        sb.append('\n');
+    }
+
+    private static void describir(StringBuilder sb, List<Diagnostico> diagnosticos) {
+        for (Diagnostico d : diagnosticos) {
+            describir(sb, d);
+            sb.append('\n');
+        }
+    }
+
+    private static void describir(StringBuilder sb, Diagnostico d) {
+        sb.append("diagnóstico ").append(d.getFase()).append('/').append(d.getCodigo()).append(' ')
+                .append(d.getLinea()).append(':').append(d.getColumna()).append('+').append(d.getLongitud())
+                .append(' ').append(d.getDato());
+    }
+
+    private static String escapar(String texto) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < ' ' || (c >= 0x7f && c <= 0x9f) || c == '\u2028' || c == '\u2029') {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Punto de entrada de la comprobación
+     */
+    public static void main(String[] args) throws Exception {
+        long semilla = 1;
+        int casos = 100_000;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--semilla":
+                        semilla = Argumentos.leerNumero(args, ++i, "--semilla");
+                        break;
+                    case "--casos":
+                        casos = (int) Argumentos.leerNumero(args, ++i, "--casos", 1, Integer.MAX_VALUE);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+
+        VerificarEscaneres verificador = new VerificarEscaneres();
+        Random aleatorio = new Random(semilla);
+        verificador.verificarFragmentos(aleatorio, casos);
+        // Las entradas largas cuestan mucho más que las cortas
+        verificador.verificarNoAscii(aleatorio, Math.max(1, casos / 500));
+        verificador.verificarDecimales(aleatorio, casos);
+        verificador.verificarIncremental(aleatorio, casos);
+
+        if (verificador.diferencias > 0) {
+            System.out.println(verificador.diferencias + " diferencias con el Lexer");
+            System.exit(1);
+        }
+        System.out.println("Sin diferencias con el Lexer");
+    }
+}
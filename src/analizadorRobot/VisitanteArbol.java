@@ -0,0 +1,40 @@
+/**
+ * Visitante para recorrer un {@link Arbol} en el orden del código. Cada
+ * método recibe el árbol y el índice del nodo, así el recorrido no crea
+ * objetos por nodo.
+ */
+public interface VisitanteArbol {
+
+    /**
+     * Declaración de un robot: Robot r1
+     */
+    default void visitarDeclaracion(Arbol arbol, int nodo) {
+    }
+
+    /**
+     * Asignación de una propiedad: r1.base = 90
+     */
+    default void visitarAsignacion(Arbol arbol, int nodo) {
+    }
+
+    /**
+     * Llamada a un método, con o sin argumento: r1.base(90), r1.iniciar
+     */
+    default void visitarLlamada(Arbol arbol, int nodo) {
+    }
+
+    /**
+     * Inicio de un bloque r1.repetir(n) { ... }
+     *
+     * @return false para no recorrer el cuerpo del bloque
+     */
+    default boolean entrarRepeticion(Arbol arbol, int nodo) {
+        return true;
+    }
+
+    /**
+     * Fin de un bloque de repetición (solo si se entró en su cuerpo)
+     */
+    default void salirRepeticion(Arbol arbol, int nodo) {
+    }
+}
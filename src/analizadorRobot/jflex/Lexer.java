@@ -3,7 +3,7 @@
 // source: src/analizadorRobot/jflex/Lexer.flex
 
 import java_cup.runtime.*;
-import java.util.ArrayList;
+
 
 @SuppressWarnings("fallthrough")
 public class Lexer implements java_cup.runtime.Scanner {
@@ -21,72 +21,71 @@ public class Lexer implements java_cup.runtime.Scanner {
   /**
    * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
    * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
-   * at the beginning of a line
+   *                  at the beginning of a line
    * l is of the form l = 2*k, k a non negative integer
    */
   private static final int ZZ_LEXSTATE[] = {
-      0, 0, 1, 1
+     0,  0,  1, 1
   };
 
   /**
    * Top-level table for translating characters to character classes
    */
-  private static final int[] ZZ_CMAP_TOP = zzUnpackcmap_top();
+  private static final int [] ZZ_CMAP_TOP = zzUnpackcmap_top();
 
-  private static final String ZZ_CMAP_TOP_PACKED_0 = "\1\0\37\u0100\1\u0200\267\u0100\10\u0300\u1020\u0100";
+  private static final String ZZ_CMAP_TOP_PACKED_0 =
+    "\1\0\37\u0100\1\u0200\267\u0100\10\u0300\u1020\u0100";
 
-  private static int[] zzUnpackcmap_top() {
-    int[] result = new int[4352];
+  private static int [] zzUnpackcmap_top() {
+    int [] result = new int[4352];
     int offset = 0;
     offset = zzUnpackcmap_top(ZZ_CMAP_TOP_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpackcmap_top(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpackcmap_top(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length();
     while (i < l) {
       int count = packed.charAt(i++);
       int value = packed.charAt(i++);
-      do
-        result[j++] = value;
-      while (--count > 0);
+      do result[j++] = value; while (--count > 0);
     }
     return j;
   }
 
+
   /**
    * Second-level tables for translating characters to character classes
    */
-  private static final int[] ZZ_CMAP_BLOCKS = zzUnpackcmap_blocks();
-
-  private static final String ZZ_CMAP_BLOCKS_PACKED_0 = "\11\0\1\1\1\2\1\3\1\4\1\5\22\0\1\1" +
-      "\7\0\1\6\1\7\2\10\1\11\1\10\1\12\1\10" +
-      "\1\13\11\14\1\0\1\15\1\0\1\16\3\0\6\17" +
-      "\1\20\12\17\1\21\10\17\4\0\1\22\1\0\1\23" +
-      "\1\24\1\25\1\26\1\27\1\17\1\30\1\17\1\31" +
-      "\2\17\1\32\1\17\1\33\1\34\1\35\1\17\1\36" +
-      "\1\37\1\40\1\41\1\42\4\17\1\43\1\0\1\44" +
-      "\7\0\1\3\u01a2\0\2\3\326\0\u0100\3";
-
-  private static int[] zzUnpackcmap_blocks() {
-    int[] result = new int[1024];
+  private static final int [] ZZ_CMAP_BLOCKS = zzUnpackcmap_blocks();
+
+  private static final String ZZ_CMAP_BLOCKS_PACKED_0 =
+    "\11\0\1\1\1\2\1\3\1\4\1\5\22\0\1\1"+
+    "\7\0\1\6\1\7\2\10\1\11\1\10\1\12\1\10"+
+    "\1\13\11\14\1\0\1\15\1\0\1\16\3\0\6\17"+
+    "\1\20\12\17\1\21\10\17\4\0\1\22\1\0\1\23"+
+    "\1\24\1\25\1\26\1\27\1\17\1\30\1\17\1\31"+
+    "\2\17\1\32\1\17\1\33\1\34\1\35\1\17\1\36"+
+    "\1\37\1\40\1\41\1\42\4\17\1\43\1\0\1\44"+
+    "\7\0\1\3\u01a2\0\2\3\326\0\u0100\3";
+
+  private static int [] zzUnpackcmap_blocks() {
+    int [] result = new int[1024];
     int offset = 0;
     offset = zzUnpackcmap_blocks(ZZ_CMAP_BLOCKS_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpackcmap_blocks(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpackcmap_blocks(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length();
     while (i < l) {
       int count = packed.charAt(i++);
       int value = packed.charAt(i++);
-      do
-        result[j++] = value;
-      while (--count > 0);
+      do result[j++] = value; while (--count > 0);
     }
     return j;
   }
@@ -94,63 +93,64 @@ public class Lexer implements java_cup.runtime.Scanner {
   /**
    * Translates DFA states to action switch labels.
    */
-  private static final int[] ZZ_ACTION = zzUnpackAction();
+  private static final int [] ZZ_ACTION = zzUnpackAction();
 
-  private static final String ZZ_ACTION_PACKED_0 = "\2\0\1\1\2\2\1\3\1\4\1\5\1\6\1\7" +
-      "\2\10\1\11\1\12\2\13\1\14\1\15\1\16\11\17" +
-      "\1\20\1\0\1\13\11\17\1\13\11\17\1\13\1\17" +
-      "\1\21\7\17\1\22\4\17\1\23\5\17\1\24\6\17" +
-      "\1\25\1\26\1\27\6\17\1\30\1\31\1\17\1\32";
+  private static final String ZZ_ACTION_PACKED_0 =
+    "\2\0\1\1\2\2\1\3\1\4\1\5\1\6\1\7"+
+    "\2\10\1\11\1\12\2\13\1\14\1\15\1\16\11\17"+
+    "\1\20\1\0\1\13\11\17\1\13\11\17\1\13\1\17"+
+    "\1\21\7\17\1\22\4\17\1\23\5\17\1\24\6\17"+
+    "\1\25\1\26\1\27\6\17\1\30\1\31\1\17\1\32";
 
-  private static int[] zzUnpackAction() {
-    int[] result = new int[91];
+  private static int [] zzUnpackAction() {
+    int [] result = new int[91];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpackAction(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpackAction(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length();
     while (i < l) {
       int count = packed.charAt(i++);
       int value = packed.charAt(i++);
-      do
-        result[j++] = value;
-      while (--count > 0);
+      do result[j++] = value; while (--count > 0);
     }
     return j;
   }
 
+
   /**
    * Translates a state to a row index in the transition table
    */
-  private static final int[] ZZ_ROWMAP = zzUnpackRowMap();
-
-  private static final String ZZ_ROWMAP_PACKED_0 = "\0\0\0\45\0\112\0\112\0\157\0\112\0\112\0\112" +
-      "\0\112\0\224\0\271\0\336\0\112\0\112\0\u0103\0\u0128" +
-      "\0\112\0\112\0\112\0\u014d\0\u0172\0\u0197\0\u01bc\0\u01e1" +
-      "\0\u0206\0\u022b\0\u0250\0\u0275\0\224\0\271\0\u029a\0\u02bf" +
-      "\0\u02e4\0\u0309\0\u032e\0\u0353\0\u0378\0\u039d\0\u03c2\0\u03e7" +
-      "\0\u040c\0\u0431\0\u0456\0\u047b\0\u04a0\0\u04c5\0\u04ea\0\u050f" +
-      "\0\u0534\0\u0559\0\u057e\0\u05a3\0\u014d\0\u05c8\0\u05ed\0\u0612" +
-      "\0\u0637\0\u065c\0\u0681\0\u06a6\0\u0103\0\u06cb\0\u06f0\0\u0715" +
-      "\0\u073a\0\u014d\0\u075f\0\u0784\0\u07a9\0\u07ce\0\u07f3\0\u014d" +
-      "\0\u0818\0\u083d\0\u0862\0\u0887\0\u08ac\0\u08d1\0\u014d\0\u014d" +
-      "\0\u014d\0\u08f6\0\u091b\0\u0940\0\u0965\0\u098a\0\u09af\0\u014d" +
-      "\0\u014d\0\u09d4\0\u014d";
-
-  private static int[] zzUnpackRowMap() {
-    int[] result = new int[91];
+  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+
+  private static final String ZZ_ROWMAP_PACKED_0 =
+    "\0\0\0\45\0\112\0\112\0\157\0\112\0\112\0\112"+
+    "\0\112\0\224\0\271\0\336\0\112\0\112\0\u0103\0\u0128"+
+    "\0\112\0\112\0\112\0\u014d\0\u0172\0\u0197\0\u01bc\0\u01e1"+
+    "\0\u0206\0\u022b\0\u0250\0\u0275\0\224\0\271\0\u029a\0\u02bf"+
+    "\0\u02e4\0\u0309\0\u032e\0\u0353\0\u0378\0\u039d\0\u03c2\0\u03e7"+
+    "\0\u040c\0\u0431\0\u0456\0\u047b\0\u04a0\0\u04c5\0\u04ea\0\u050f"+
+    "\0\u0534\0\u0559\0\u057e\0\u05a3\0\u014d\0\u05c8\0\u05ed\0\u0612"+
+    "\0\u0637\0\u065c\0\u0681\0\u06a6\0\u0103\0\u06cb\0\u06f0\0\u0715"+
+    "\0\u073a\0\u014d\0\u075f\0\u0784\0\u07a9\0\u07ce\0\u07f3\0\u014d"+
+    "\0\u0818\0\u083d\0\u0862\0\u0887\0\u08ac\0\u08d1\0\u014d\0\u014d"+
+    "\0\u014d\0\u08f6\0\u091b\0\u0940\0\u0965\0\u098a\0\u09af\0\u014d"+
+    "\0\u014d\0\u09d4\0\u014d";
+
+  private static int [] zzUnpackRowMap() {
+    int [] result = new int[91];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpackRowMap(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
+    int i = 0;  /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length() - 1;
     while (i < l) {
       int high = packed.charAt(i++) << 16;
@@ -162,84 +162,84 @@ public class Lexer implements java_cup.runtime.Scanner {
   /**
    * The transition table of the DFA
    */
-  private static final int[] ZZ_TRANS = zzUnpacktrans();
-
-  private static final String ZZ_TRANS_PACKED_0 = "\1\3\2\4\1\3\1\4\1\5\1\6\1\7\1\10" +
-      "\1\11\1\12\1\13\1\14\1\15\1\16\2\17\1\20" +
-      "\1\3\20\17\1\21\1\22\2\23\1\4\1\3\1\4" +
-      "\1\5\11\23\3\24\1\23\1\25\1\26\1\27\1\30" +
-      "\1\24\1\31\1\32\4\24\1\33\3\24\1\34\2\23" +
-      "\47\0\1\4\55\0\2\35\42\0\1\35\2\36\42\0" +
-      "\1\35\2\14\43\0\2\17\2\0\24\17\15\0\2\17" +
-      "\2\0\15\17\1\37\6\17\15\0\2\24\2\0\24\24" +
-      "\15\0\2\24\2\0\5\24\1\40\16\24\15\0\2\24" +
-      "\2\0\4\24\1\41\17\24\15\0\2\24\2\0\10\24" +
-      "\1\42\11\24\1\43\1\24\15\0\2\24\2\0\10\24" +
-      "\1\44\13\24\15\0\2\24\2\0\4\24\1\45\17\24" +
-      "\15\0\2\24\2\0\14\24\1\46\7\24\15\0\2\24" +
-      "\2\0\10\24\1\47\13\24\15\0\2\24\2\0\10\24" +
-      "\1\50\13\24\15\0\2\17\2\0\5\17\1\51\16\17" +
-      "\15\0\2\24\2\0\17\24\1\52\4\24\15\0\2\24" +
-      "\2\0\20\24\1\53\3\24\15\0\2\24\2\0\17\24" +
-      "\1\54\4\24\15\0\2\24\2\0\10\24\1\55\13\24" +
-      "\15\0\2\24\2\0\21\24\1\56\2\24\15\0\2\24" +
-      "\2\0\17\24\1\57\4\24\15\0\2\24\2\0\12\24" +
-      "\1\60\11\24\15\0\2\24\2\0\16\24\1\61\5\24" +
-      "\15\0\2\24\2\0\13\24\1\62\10\24\15\0\2\17" +
-      "\2\0\15\17\1\63\6\17\15\0\2\24\2\0\12\24" +
-      "\1\64\11\24\15\0\2\24\2\0\10\24\1\65\13\24" +
-      "\15\0\2\24\2\0\17\24\1\66\4\24\15\0\2\24" +
-      "\2\0\17\24\1\67\4\24\15\0\2\24\2\0\10\24" +
-      "\1\70\13\24\15\0\2\24\2\0\17\24\1\71\4\24" +
-      "\15\0\2\24\2\0\6\24\1\72\15\24\15\0\2\24" +
-      "\2\0\10\24\1\73\13\24\15\0\2\24\2\0\15\24" +
-      "\1\74\6\24\15\0\2\17\2\0\21\17\1\75\2\17" +
-      "\15\0\2\24\2\0\17\24\1\76\4\24\15\0\2\24" +
-      "\2\0\4\24\1\77\17\24\15\0\2\24\2\0\16\24" +
-      "\1\100\5\24\15\0\2\24\2\0\14\24\1\101\7\24" +
-      "\15\0\2\24\2\0\4\24\1\102\17\24\15\0\2\24" +
-      "\2\0\12\24\1\103\11\24\15\0\2\24\2\0\21\24" +
-      "\1\104\2\24\15\0\2\24\2\0\6\24\1\105\15\24" +
-      "\15\0\2\24\2\0\1\24\1\106\22\24\15\0\2\24" +
-      "\2\0\17\24\1\107\4\24\15\0\2\24\2\0\15\24" +
-      "\1\110\6\24\15\0\2\24\2\0\10\24\1\111\13\24" +
-      "\15\0\2\24\2\0\4\24\1\112\17\24\15\0\2\24" +
-      "\2\0\12\24\1\113\11\24\15\0\2\24\2\0\12\24" +
-      "\1\114\11\24\15\0\2\24\2\0\4\24\1\115\17\24" +
-      "\15\0\2\24\2\0\1\24\1\116\22\24\15\0\2\24" +
-      "\2\0\17\24\1\117\4\24\15\0\2\24\2\0\17\24" +
-      "\1\120\4\24\15\0\2\24\2\0\17\24\1\121\4\24" +
-      "\15\0\2\24\2\0\7\24\1\122\14\24\15\0\2\24" +
-      "\2\0\17\24\1\123\4\24\15\0\2\24\2\0\4\24" +
-      "\1\124\17\24\15\0\2\24\2\0\4\24\1\125\17\24" +
-      "\15\0\2\24\2\0\17\24\1\126\4\24\15\0\2\24" +
-      "\2\0\17\24\1\127\4\24\15\0\2\24\2\0\7\24" +
-      "\1\130\14\24\15\0\2\24\2\0\4\24\1\131\17\24" +
-      "\15\0\2\24\2\0\17\24\1\132\4\24\15\0\2\24" +
-      "\2\0\4\24\1\133\17\24\2\0";
-
-  private static int[] zzUnpacktrans() {
-    int[] result = new int[2553];
+  private static final int [] ZZ_TRANS = zzUnpacktrans();
+
+  private static final String ZZ_TRANS_PACKED_0 =
+    "\1\3\2\4\1\3\1\4\1\5\1\6\1\7\1\10"+
+    "\1\11\1\12\1\13\1\14\1\15\1\16\2\17\1\20"+
+    "\1\3\20\17\1\21\1\22\2\23\1\4\1\3\1\4"+
+    "\1\5\11\23\3\24\1\23\1\25\1\26\1\27\1\30"+
+    "\1\24\1\31\1\32\4\24\1\33\3\24\1\34\2\23"+
+    "\47\0\1\4\55\0\2\35\42\0\1\35\2\36\42\0"+
+    "\1\35\2\14\43\0\2\17\2\0\24\17\15\0\2\17"+
+    "\2\0\15\17\1\37\6\17\15\0\2\24\2\0\24\24"+
+    "\15\0\2\24\2\0\5\24\1\40\16\24\15\0\2\24"+
+    "\2\0\4\24\1\41\17\24\15\0\2\24\2\0\10\24"+
+    "\1\42\11\24\1\43\1\24\15\0\2\24\2\0\10\24"+
+    "\1\44\13\24\15\0\2\24\2\0\4\24\1\45\17\24"+
+    "\15\0\2\24\2\0\14\24\1\46\7\24\15\0\2\24"+
+    "\2\0\10\24\1\47\13\24\15\0\2\24\2\0\10\24"+
+    "\1\50\13\24\15\0\2\17\2\0\5\17\1\51\16\17"+
+    "\15\0\2\24\2\0\17\24\1\52\4\24\15\0\2\24"+
+    "\2\0\20\24\1\53\3\24\15\0\2\24\2\0\17\24"+
+    "\1\54\4\24\15\0\2\24\2\0\10\24\1\55\13\24"+
+    "\15\0\2\24\2\0\21\24\1\56\2\24\15\0\2\24"+
+    "\2\0\17\24\1\57\4\24\15\0\2\24\2\0\12\24"+
+    "\1\60\11\24\15\0\2\24\2\0\16\24\1\61\5\24"+
+    "\15\0\2\24\2\0\13\24\1\62\10\24\15\0\2\17"+
+    "\2\0\15\17\1\63\6\17\15\0\2\24\2\0\12\24"+
+    "\1\64\11\24\15\0\2\24\2\0\10\24\1\65\13\24"+
+    "\15\0\2\24\2\0\17\24\1\66\4\24\15\0\2\24"+
+    "\2\0\17\24\1\67\4\24\15\0\2\24\2\0\10\24"+
+    "\1\70\13\24\15\0\2\24\2\0\17\24\1\71\4\24"+
+    "\15\0\2\24\2\0\6\24\1\72\15\24\15\0\2\24"+
+    "\2\0\10\24\1\73\13\24\15\0\2\24\2\0\15\24"+
+    "\1\74\6\24\15\0\2\17\2\0\21\17\1\75\2\17"+
+    "\15\0\2\24\2\0\17\24\1\76\4\24\15\0\2\24"+
+    "\2\0\4\24\1\77\17\24\15\0\2\24\2\0\16\24"+
+    "\1\100\5\24\15\0\2\24\2\0\14\24\1\101\7\24"+
+    "\15\0\2\24\2\0\4\24\1\102\17\24\15\0\2\24"+
+    "\2\0\12\24\1\103\11\24\15\0\2\24\2\0\21\24"+
+    "\1\104\2\24\15\0\2\24\2\0\6\24\1\105\15\24"+
+    "\15\0\2\24\2\0\1\24\1\106\22\24\15\0\2\24"+
+    "\2\0\17\24\1\107\4\24\15\0\2\24\2\0\15\24"+
+    "\1\110\6\24\15\0\2\24\2\0\10\24\1\111\13\24"+
+    "\15\0\2\24\2\0\4\24\1\112\17\24\15\0\2\24"+
+    "\2\0\12\24\1\113\11\24\15\0\2\24\2\0\12\24"+
+    "\1\114\11\24\15\0\2\24\2\0\4\24\1\115\17\24"+
+    "\15\0\2\24\2\0\1\24\1\116\22\24\15\0\2\24"+
+    "\2\0\17\24\1\117\4\24\15\0\2\24\2\0\17\24"+
+    "\1\120\4\24\15\0\2\24\2\0\17\24\1\121\4\24"+
+    "\15\0\2\24\2\0\7\24\1\122\14\24\15\0\2\24"+
+    "\2\0\17\24\1\123\4\24\15\0\2\24\2\0\4\24"+
+    "\1\124\17\24\15\0\2\24\2\0\4\24\1\125\17\24"+
+    "\15\0\2\24\2\0\17\24\1\126\4\24\15\0\2\24"+
+    "\2\0\17\24\1\127\4\24\15\0\2\24\2\0\7\24"+
+    "\1\130\14\24\15\0\2\24\2\0\4\24\1\131\17\24"+
+    "\15\0\2\24\2\0\17\24\1\132\4\24\15\0\2\24"+
+    "\2\0\4\24\1\133\17\24\2\0";
+
+  private static int [] zzUnpacktrans() {
+    int [] result = new int[2553];
     int offset = 0;
     offset = zzUnpacktrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpacktrans(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpacktrans(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length();
     while (i < l) {
       int count = packed.charAt(i++);
       int value = packed.charAt(i++);
       value--;
-      do
-        result[j++] = value;
-      while (--count > 0);
+      do result[j++] = value; while (--count > 0);
     }
     return j;
   }
 
+
   /** Error code for "Unknown internal scanner error". */
   private static final int ZZ_UNKNOWN_ERROR = 0;
   /** Error code for "could not match input". */
@@ -252,36 +252,35 @@ public class Lexer implements java_cup.runtime.Scanner {
    * {@link #ZZ_PUSHBACK_2BIG} respectively.
    */
   private static final String ZZ_ERROR_MSG[] = {
-      "Unknown internal scanner error",
-      "Error: could not match input",
-      "Error: pushback value was too large"
+    "Unknown internal scanner error",
+    "Error: could not match input",
+    "Error: pushback value was too large"
   };
 
   /**
    * ZZ_ATTRIBUTE[aState] contains the attributes of state {@code aState}
    */
-  private static final int[] ZZ_ATTRIBUTE = zzUnpackAttribute();
+  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
 
-  private static final String ZZ_ATTRIBUTE_PACKED_0 = "\2\0\2\11\1\1\4\11\3\1\2\11\2\1\3\11" +
-      "\12\1\1\0\75\1";
+  private static final String ZZ_ATTRIBUTE_PACKED_0 =
+    "\2\0\2\11\1\1\4\11\3\1\2\11\2\1\3\11"+
+    "\12\1\1\0\75\1";
 
-  private static int[] zzUnpackAttribute() {
-    int[] result = new int[91];
+  private static int [] zzUnpackAttribute() {
+    int [] result = new int[91];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
   }
 
-  private static int zzUnpackAttribute(String packed, int offset, int[] result) {
-    int i = 0; /* index in packed string */
-    int j = offset; /* index in unpacked array */
+  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
     int l = packed.length();
     while (i < l) {
       int count = packed.charAt(i++);
       int value = packed.charAt(i++);
-      do
-        result[j++] = value;
-      while (--count > 0);
+      do result[j++] = value; while (--count > 0);
     }
     return j;
   }
@@ -296,8 +295,7 @@ public class Lexer implements java_cup.runtime.Scanner {
   private int zzLexicalState = YYINITIAL;
 
   /**
-   * This buffer contains the current text to be matched and is the source of the
-   * {@link #yytext()}
+   * This buffer contains the current text to be matched and is the source of the {@link #yytext()}
    * string.
    */
   private char zzBuffer[] = new char[Math.min(ZZ_BUFFERSIZE, zzMaxBufferLen())];
@@ -316,33 +314,25 @@ public class Lexer implements java_cup.runtime.Scanner {
 
   /**
    * Whether the scanner is at the end of file.
-   * 
    * @see #yyatEOF
    */
   private boolean zzAtEOF;
 
   /**
-   * The number of occupied positions in {@link #zzBuffer} beyond
-   * {@link #zzEndRead}.
+   * The number of occupied positions in {@link #zzBuffer} beyond {@link #zzEndRead}.
    *
-   * <p>
-   * When a lead/high surrogate has been read from the input stream into the final
-   * {@link #zzBuffer} position, this will have a value of 1; otherwise, it will
-   * have a value of 0.
+   * <p>When a lead/high surrogate has been read from the input stream into the final
+   * {@link #zzBuffer} position, this will have a value of 1; otherwise, it will have a value of 0.
    */
   private int zzFinalHighSurrogate = 0;
 
   /** Number of newlines encountered up to the start of the matched text. */
   private int yyline;
 
-  /**
-   * Number of characters from the last newline up to the start of the matched
-   * text.
-   */
+  /** Number of characters from the last newline up to the start of the matched text. */
   private int yycolumn;
 
   /** Number of characters up to the start of the matched text. */
-  @SuppressWarnings("unused")
   private long yychar;
 
   /** Whether the scanner is currently at the beginning of a line. */
@@ -353,45 +343,161 @@ public class Lexer implements java_cup.runtime.Scanner {
   private boolean zzEOFDone;
 
   /* user code: */
-  // Lista para almacenar todos los tokens encontrados
-  private ArrayList<Token> tokens = new ArrayList<>();
-
-  // Método para añadir tokens a la lista
-  public void addToken(String lexeme, String tokenType, int line, int column) {
-    tokens.add(new Token(lexeme, tokenType, line + 1, column + 1));
-  }
-
-  // Método para obtener todos los tokens encontrados
-  public ArrayList<Token> getTokens() {
-    return tokens;
-  }
-
-  // Método para reportar errores
-  private void error(String message) {
-    System.out.println("Error léxico en línea " + (yyline + 1) + ", columna " + (yycolumn + 1) + ": " + message);
-  }
+    // Buffer compacto con todos los tokens encontrados
+    private BufferTokens tokens = new BufferTokens();
+    
+    // Constructor que asocia el texto fuente al buffer para poder obtener los lexemas
+    public Lexer(String fuente) {
+        this(new java.io.StringReader(fuente));
+        tokens = new BufferTokens(fuente);
+    }
+    
+    // Constructor que empieza a analizar el texto fuente desde una posici??n
+    // intermedia (siempre un inicio de l??nea), con el estado l??xico y el n??mero de
+    // l??nea de ese punto; lo usa el an??lisis l??xico incremental
+    public Lexer(String fuente, int inicio, int estado, int linea) {
+        this(fuente);
+        try {
+            zzReader.skip(inicio);
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+        yybegin(estado);
+        despuesDePunto = estado == AFTER_DOT;
+        yyline = linea;
+        yychar = inicio;
+    }
+    
+    // Indica si se guardan los tokens en el buffer; cuando solo se necesitan los
+    // s??mbolos para el parser se puede desactivar para no reservar memoria
+    private boolean registrarTokens = true;
+    
+    // M??todo para activar o desactivar el registro de tokens
+    public void setRegistrarTokens(boolean registrar) {
+        registrarTokens = registrar;
+    }
+    
+    // M??todo para a??adir el token actual al buffer
+    public void addToken(byte tipoToken, int simbolo) {
+        if (registrarTokens) {
+            tokens.agregar(tipoToken, simbolo, (int) yychar, yylength(), yyline+1, yycolumn+1);
+        }
+    }
+    
+    // M??todo para obtener todos los tokens encontrados
+    public BufferTokens getTokens() {
+        return tokens;
+    }
+    
+    // M??todo para indicar el buffer donde se a??aden los tokens
+    public void setBuffer(BufferTokens buffer) {
+        tokens = buffer;
+    }
+    
+    // Enteros ya creados para los valores m??s habituales (cubren todos los rangos
+    // de los m??todos), as?? un n??mero no reserva un Integer nuevo en el Symbol
+    private static final Integer[] ENTEROS = new Integer[1024];
+    static {
+        for (int i = 0; i < ENTEROS.length; i++) {
+            ENTEROS[i] = i;
+        }
+    }
+    
+    // M??todo para obtener el Integer de un valor sin reservar memoria si es peque??o
+    private static Integer entero(int valor) {
+        return valor < ENTEROS.length ? ENTEROS[valor] : Integer.valueOf(valor);
+    }
+    
+    // M??todo para leer el entero actual directamente del buffer del lexer, sin
+    // crear un String; devuelve -1 si el n??mero no cabe en un int
+    private int decodificarEntero() {
+        int valor = 0;
+        for (int i = zzStartRead; i < zzMarkedPos; i++) {
+            int digito = zzBuffer[i] - '0';
+            if (valor > (Integer.MAX_VALUE - digito) / 10) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+    
+    // M??todo para leer el n??mero con decimales actual directamente del buffer del
+    // lexer y redondearlo igual que Math.round(Float.parseFloat(yytext()))
+    private int decodificarFlotante() {
+        int punto = zzStartRead;
+        while (zzBuffer[punto] != '.') {
+            punto++;
+        }
+        
+        // N??meros grandes o muy precisos: se delega en Float.parseFloat
+        if (!Numeros.admiteRedondeoRapido(punto - zzStartRead, zzMarkedPos - punto - 1)) {
+            return Numeros.redondear(yytext());
+        }
+        
+        // Parte entera y parte decimal (como numerador sobre 10^decimales)
+        int entero = 0;
+        for (int i = zzStartRead; i < punto; i++) {
+            entero = entero * 10 + (zzBuffer[i] - '0');
+        }
+        long numerador = 0;
+        long escala = 1;
+        for (int i = punto + 1; i < zzMarkedPos; i++) {
+            numerador = numerador * 10 + (zzBuffer[i] - '0');
+            escala *= 10;
+        }
+        
+        int valor = Numeros.redondear(entero, numerador, escala);
+        return valor != Numeros.SIN_REDONDEO_RAPIDO ? valor : Numeros.redondear(yytext());
+    }
+    
+    // Identificadores internados: cada nombre distinto se entrega al parser
+    // siempre como el mismo objeto Nombre
+    private TablaNombres nombres = new TablaNombres();
+    
+    // M??todo para obtener la tabla de nombres internados
+    public TablaNombres getNombres() {
+        return nombres;
+    }
+    
+    // Destino de los diagn??sticos l??xicos (null si nadie los necesita)
+    private ReceptorDiagnosticos receptor;
+    
+    // M??todo para indicar a qui??n se reportan los errores l??xicos
+    public void setReceptor(ReceptorDiagnosticos receptor) {
+        this.receptor = receptor;
+    }
+    
+    // M??todo para reportar errores; el diagn??stico es tambi??n el valor del
+    // s??mbolo ERROR que recibe el parser
+    private Diagnostico error(short codigo) {
+        Diagnostico diagnostico = new Diagnostico(Diagnostico.LEXICO, codigo, yyline+1, yycolumn+1, yylength(), yytext());
+        if (receptor != null) {
+            receptor.reportar(diagnostico);
+        }
+        return diagnostico;
+    }
+    
+    // Variables de contexto
+    private boolean despuesDePunto = false;
 
-  // Variables de contexto
-  private boolean despuesDePunto = false;
 
   /**
    * Creates a new scanner
    *
-   * @param in the java.io.Reader to read input from.
+   * @param   in  the java.io.Reader to read input from.
    */
   public Lexer(java.io.Reader in) {
     this.zzReader = in;
   }
 
-  /**
-   * Returns the maximum size of the scanner buffer, which limits the size of
-   * tokens.
-   */
+
+  /** Returns the maximum size of the scanner buffer, which limits the size of tokens. */
   private int zzMaxBufferLen() {
     return Integer.MAX_VALUE;
   }
 
-  /** Whether the scanner buffer can grow to accommodate a larger token. */
+  /**  Whether the scanner buffer can grow to accommodate a larger token. */
   private boolean zzCanGrow() {
     return true;
   }
@@ -408,7 +514,7 @@ public class Lexer implements java_cup.runtime.Scanner {
    * Refills the input buffer.
    *
    * @return {@code false} iff there was new input.
-   * @exception java.io.IOException if any I/O-Error occurs
+   * @exception java.io.IOException  if any I/O-Error occurs
    */
   private boolean zzRefill() throws java.io.IOException {
 
@@ -417,8 +523,8 @@ public class Lexer implements java_cup.runtime.Scanner {
       zzEndRead += zzFinalHighSurrogate;
       zzFinalHighSurrogate = 0;
       System.arraycopy(zzBuffer, zzStartRead,
-          zzBuffer, 0,
-          zzEndRead - zzStartRead);
+                       zzBuffer, 0,
+                       zzEndRead - zzStartRead);
 
       /* translate stored positions */
       zzEndRead -= zzStartRead;
@@ -444,8 +550,9 @@ public class Lexer implements java_cup.runtime.Scanner {
     /* not supposed to occur according to specification of java.io.Reader */
     if (numRead == 0) {
       if (requested == 0) {
-        throw new java.io.EOFException("Scan buffer limit reached [" + zzBuffer.length + "]");
-      } else {
+        throw new java.io.EOFException("Scan buffer limit reached ["+zzBuffer.length+"]");
+      }
+      else {
         throw new java.io.IOException(
             "Reader returned 0 characters. See JFlex examples/zero-reader for a workaround.");
       }
@@ -456,12 +563,12 @@ public class Lexer implements java_cup.runtime.Scanner {
         if (numRead == requested) { // We requested too few chars to encode a full Unicode character
           --zzEndRead;
           zzFinalHighSurrogate = 1;
-        } else { // There is room in the buffer for at least one more char
-          int c = zzReader.read(); // Expecting to read a paired low surrogate char
+        } else {                    // There is room in the buffer for at least one more char
+          int c = zzReader.read();  // Expecting to read a paired low surrogate char
           if (c == -1) {
             return true;
           } else {
-            zzBuffer[zzEndRead++] = (char) c;
+            zzBuffer[zzEndRead++] = (char)c;
           }
         }
       }
@@ -473,6 +580,7 @@ public class Lexer implements java_cup.runtime.Scanner {
     return true;
   }
 
+
   /**
    * Closes the input reader.
    *
@@ -487,19 +595,16 @@ public class Lexer implements java_cup.runtime.Scanner {
     }
   }
 
+
   /**
    * Resets the scanner to read from a new input stream.
    *
-   * <p>
-   * Does not close the old reader.
+   * <p>Does not close the old reader.
    *
-   * <p>
-   * All internal variables are reset, the old input stream <b>cannot</b> be
-   * reused (internal
+   * <p>All internal variables are reset, the old input stream <b>cannot</b> be reused (internal
    * buffer is discarded and lost). Lexical state is set to {@code ZZ_INITIAL}.
    *
-   * <p>
-   * Internal scan buffer is resized down to its initial length, if it has grown.
+   * <p>Internal scan buffer is resized down to its initial length, if it has grown.
    *
    * @param reader The new input stream.
    */
@@ -518,18 +623,19 @@ public class Lexer implements java_cup.runtime.Scanner {
    * Resets the input position.
    */
   private final void yyResetPosition() {
-    zzAtBOL = true;
-    zzAtEOF = false;
-    zzCurrentPos = 0;
-    zzMarkedPos = 0;
-    zzStartRead = 0;
-    zzEndRead = 0;
-    zzFinalHighSurrogate = 0;
-    yyline = 0;
-    yycolumn = 0;
-    yychar = 0L;
+      zzAtBOL  = true;
+      zzAtEOF  = false;
+      zzCurrentPos = 0;
+      zzMarkedPos = 0;
+      zzStartRead = 0;
+      zzEndRead = 0;
+      zzFinalHighSurrogate = 0;
+      yyline = 0;
+      yycolumn = 0;
+      yychar = 0L;
   }
 
+
   /**
    * Returns whether the scanner has reached the end of the reader it reads from.
    *
@@ -539,6 +645,7 @@ public class Lexer implements java_cup.runtime.Scanner {
     return zzAtEOF;
   }
 
+
   /**
    * Returns the current lexical state.
    *
@@ -548,6 +655,7 @@ public class Lexer implements java_cup.runtime.Scanner {
     return zzLexicalState;
   }
 
+
   /**
    * Enters a new lexical state.
    *
@@ -557,23 +665,23 @@ public class Lexer implements java_cup.runtime.Scanner {
     zzLexicalState = newState;
   }
 
+
   /**
    * Returns the text matched by the current regular expression.
    *
    * @return the matched text.
    */
   public final String yytext() {
-    return new String(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead);
+    return new String(zzBuffer, zzStartRead, zzMarkedPos-zzStartRead);
   }
 
+
   /**
    * Returns the character at the given position from the matched text.
    *
-   * <p>
-   * It is equivalent to {@code yytext().charAt(pos)}, but faster.
+   * <p>It is equivalent to {@code yytext().charAt(pos)}, but faster.
    *
-   * @param position the position of the character to fetch. A value from 0 to
-   *                 {@code yylength()-1}.
+   * @param position the position of the character to fetch. A value from 0 to {@code yylength()-1}.
    *
    * @return the character at {@code position}.
    */
@@ -581,32 +689,28 @@ public class Lexer implements java_cup.runtime.Scanner {
     return zzBuffer[zzStartRead + position];
   }
 
+
   /**
    * How many characters were matched.
    *
    * @return the length of the matched text region.
    */
   public final int yylength() {
-    return zzMarkedPos - zzStartRead;
+    return zzMarkedPos-zzStartRead;
   }
 
+
   /**
    * Reports an error that occurred while scanning.
    *
-   * <p>
-   * In a well-formed scanner (no or only correct usage of {@code yypushback(int)}
-   * and a
+   * <p>In a well-formed scanner (no or only correct usage of {@code yypushback(int)} and a
    * match-all fallback rule) this method will only be called with things that
    * "Can't Possibly Happen".
    *
-   * <p>
-   * If this method is called, something is seriously wrong (e.g. a JFlex bug
-   * producing a faulty
+   * <p>If this method is called, something is seriously wrong (e.g. a JFlex bug producing a faulty
    * scanner etc.).
    *
-   * <p>
-   * Usual syntax/scanner level error handling should be done in error fallback
-   * rules.
+   * <p>Usual syntax/scanner level error handling should be done in error fallback rules.
    *
    * @param errorCode the code of the error message to display.
    */
@@ -621,23 +725,23 @@ public class Lexer implements java_cup.runtime.Scanner {
     throw new Error(message);
   }
 
+
   /**
    * Pushes the specified amount of characters back into the input stream.
    *
-   * <p>
-   * They will be read again by then next call of the scanning method.
+   * <p>They will be read again by then next call of the scanning method.
    *
-   * @param number the number of characters to be read again. This number must not
-   *               be greater than
-   *               {@link #yylength()}.
+   * @param number the number of characters to be read again. This number must not be greater than
+   *     {@link #yylength()}.
    */
-  public void yypushback(int number) {
-    if (number > yylength())
+  public void yypushback(int number)  {
+    if ( number > yylength() )
       zzScanError(ZZ_PUSHBACK_2BIG);
 
     zzMarkedPos -= number;
   }
 
+
   /**
    * Contains user EOF-code, which will be executed exactly once,
    * when the end of file is reached
@@ -645,21 +749,22 @@ public class Lexer implements java_cup.runtime.Scanner {
   private void zzDoEOF() throws java.io.IOException {
     if (!zzEOFDone) {
       zzEOFDone = true;
-
-      yyclose();
-    }
+    
+  yyclose();    }
   }
 
+
+
+
   /**
-   * Resumes scanning until the next regular expression is matched, the end of
-   * input is encountered
+   * Resumes scanning until the next regular expression is matched, the end of input is encountered
    * or an I/O-Error occurs.
    *
    * @return the next token.
    * @exception java.io.IOException if any I/O-Error occurs.
    */
-  @Override
-  public java_cup.runtime.Symbol next_token() throws java.io.IOException {
+  @Override  public java_cup.runtime.Symbol next_token() throws java.io.IOException
+  {
     int zzInput;
     int zzAction;
 
@@ -669,45 +774,49 @@ public class Lexer implements java_cup.runtime.Scanner {
     int zzEndReadL = zzEndRead;
     char[] zzBufferL = zzBuffer;
 
-    int[] zzTransL = ZZ_TRANS;
-    int[] zzRowMapL = ZZ_ROWMAP;
-    int[] zzAttrL = ZZ_ATTRIBUTE;
+    int [] zzTransL = ZZ_TRANS;
+    int [] zzRowMapL = ZZ_ROWMAP;
+    int [] zzAttrL = ZZ_ATTRIBUTE;
 
     while (true) {
       zzMarkedPosL = zzMarkedPos;
 
+      yychar+= zzMarkedPosL-zzStartRead;
+
       boolean zzR = false;
       int zzCh;
       int zzCharCount;
-      for (zzCurrentPosL = zzStartRead; zzCurrentPosL < zzMarkedPosL; zzCurrentPosL += zzCharCount) {
+      for (zzCurrentPosL = zzStartRead  ;
+           zzCurrentPosL < zzMarkedPosL ;
+           zzCurrentPosL += zzCharCount ) {
         zzCh = Character.codePointAt(zzBufferL, zzCurrentPosL, zzMarkedPosL);
         zzCharCount = Character.charCount(zzCh);
         switch (zzCh) {
-          case '\u000B': // fall through
-          case '\u000C': // fall through
-          case '\u0085': // fall through
-          case '\u2028': // fall through
-          case '\u2029':
-            yyline++;
-            yycolumn = 0;
+        case '\u000B':  // fall through
+        case '\u000C':  // fall through
+        case '\u0085':  // fall through
+        case '\u2028':  // fall through
+        case '\u2029':
+          yyline++;
+          yycolumn = 0;
+          zzR = false;
+          break;
+        case '\r':
+          yyline++;
+          yycolumn = 0;
+          zzR = true;
+          break;
+        case '\n':
+          if (zzR)
             zzR = false;
-            break;
-          case '\r':
+          else {
             yyline++;
             yycolumn = 0;
-            zzR = true;
-            break;
-          case '\n':
-            if (zzR)
-              zzR = false;
-            else {
-              yyline++;
-              yycolumn = 0;
-            }
-            break;
-          default:
-            zzR = false;
-            yycolumn += zzCharCount;
+          }
+          break;
+        default:
+          zzR = false;
+          yycolumn += zzCharCount;
         }
       }
 
@@ -729,8 +838,7 @@ public class Lexer implements java_cup.runtime.Scanner {
           else
             zzPeek = zzBufferL[zzMarkedPosL] == '\n';
         }
-        if (zzPeek)
-          yyline--;
+        if (zzPeek) yyline--;
       }
       zzAction = -1;
 
@@ -740,48 +848,50 @@ public class Lexer implements java_cup.runtime.Scanner {
 
       // set up zzAction for empty match case:
       int zzAttributes = zzAttrL[zzState];
-      if ((zzAttributes & 1) == 1) {
+      if ( (zzAttributes & 1) == 1 ) {
         zzAction = zzState;
       }
 
+
       zzForAction: {
         while (true) {
 
           if (zzCurrentPosL < zzEndReadL) {
             zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL, zzEndReadL);
             zzCurrentPosL += Character.charCount(zzInput);
-          } else if (zzAtEOF) {
+          }
+          else if (zzAtEOF) {
             zzInput = YYEOF;
             break zzForAction;
-          } else {
+          }
+          else {
             // store back cached positions
-            zzCurrentPos = zzCurrentPosL;
-            zzMarkedPos = zzMarkedPosL;
+            zzCurrentPos  = zzCurrentPosL;
+            zzMarkedPos   = zzMarkedPosL;
             boolean eof = zzRefill();
             // get translated positions and possibly new buffer
-            zzCurrentPosL = zzCurrentPos;
-            zzMarkedPosL = zzMarkedPos;
-            zzBufferL = zzBuffer;
-            zzEndReadL = zzEndRead;
+            zzCurrentPosL  = zzCurrentPos;
+            zzMarkedPosL   = zzMarkedPos;
+            zzBufferL      = zzBuffer;
+            zzEndReadL     = zzEndRead;
             if (eof) {
               zzInput = YYEOF;
               break zzForAction;
-            } else {
+            }
+            else {
               zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL, zzEndReadL);
               zzCurrentPosL += Character.charCount(zzInput);
             }
           }
-          int zzNext = zzTransL[zzRowMapL[zzState] + zzCMap(zzInput)];
-          if (zzNext == -1)
-            break zzForAction;
+          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMap(zzInput) ];
+          if (zzNext == -1) break zzForAction;
           zzState = zzNext;
 
           zzAttributes = zzAttrL[zzState];
-          if ((zzAttributes & 1) == 1) {
+          if ( (zzAttributes & 1) == 1 ) {
             zzAction = zzState;
             zzMarkedPosL = zzCurrentPosL;
-            if ((zzAttributes & 8) == 8)
-              break zzForAction;
+            if ( (zzAttributes & 8) == 8 ) break zzForAction;
           }
 
         }
@@ -792,232 +902,195 @@ public class Lexer implements java_cup.runtime.Scanner {
 
       if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
         zzAtEOF = true;
-        zzDoEOF();
-        {
-          return new java_cup.runtime.Symbol(sym.EOF);
-        }
-      } else {
+            zzDoEOF();
+          { return new java_cup.runtime.Symbol(sym.EOF); }
+      }
+      else {
         switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-          case 1: {
-            error("Símbolo no reconocido: " + yytext());
-            addToken(yytext(), "ERROR", yyline, yycolumn);
-            return new Symbol(sym.ERROR, yyline, yycolumn, "Símbolo no reconocido: " + yytext());
-          }
+          case 1:
+            { addToken(BufferTokens.ERROR, sym.ERROR);
+                           return new Symbol(sym.ERROR, yyline, yycolumn, error(Diagnostico.SIMBOLO_NO_RECONOCIDO));
+            }
           // fall through
-          case 27:
-            break;
-          case 2: { /* Ignorar espacios */
-          }
+          case 27: break;
+          case 2:
+            { /* Ignorar espacios */
+            }
           // fall through
-          case 28:
-            break;
-          case 3: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.PARENTESIS_A, yyline, yycolumn, yytext());
-          }
+          case 28: break;
+          case 3:
+            { addToken(BufferTokens.DELIMITADOR, sym.PARENTESIS_A); 
+                               return new Symbol(sym.PARENTESIS_A, yyline, yycolumn, "(");
+            }
           // fall through
-          case 29:
-            break;
-          case 4: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.PARENTESIS_C, yyline, yycolumn, yytext());
-          }
+          case 29: break;
+          case 4:
+            { addToken(BufferTokens.DELIMITADOR, sym.PARENTESIS_C); 
+                               return new Symbol(sym.PARENTESIS_C, yyline, yycolumn, ")");
+            }
           // fall through
-          case 30:
-            break;
-          case 5: {
-            addToken(yytext(), "OPERADOR", yyline, yycolumn);
-            return new Symbol(sym.ERROR, yyline, yycolumn, yytext());
-          }
+          case 30: break;
+          case 5:
+            { addToken(BufferTokens.OPERADOR, sym.ERROR); 
+                               return new Symbol(sym.ERROR, yyline, yycolumn, error(Diagnostico.OPERADOR_NO_PERMITIDO));
+            }
           // fall through
-          case 31:
-            break;
-          case 6: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.COMA, yyline, yycolumn, yytext());
-          }
+          case 31: break;
+          case 6:
+            { addToken(BufferTokens.DELIMITADOR, sym.COMA); 
+                               return new Symbol(sym.COMA, yyline, yycolumn, ",");
+            }
           // fall through
-          case 32:
-            break;
-          case 7: {
-            yybegin(AFTER_DOT);
-            despuesDePunto = true;
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.PUNTO, yyline, yycolumn, yytext());
-          }
+          case 32: break;
+          case 7:
+            { yybegin(AFTER_DOT);
+                               despuesDePunto = true;
+                               addToken(BufferTokens.DELIMITADOR, sym.PUNTO); 
+                               return new Symbol(sym.PUNTO, yyline, yycolumn, ".");
+            }
           // fall through
-          case 33:
-            break;
-          case 8: {
-            try {
-              int value = Integer.parseInt(yytext());
-              addToken(yytext(), "NUMERO", yyline, yycolumn);
-              return new Symbol(sym.NUMERO, yyline, yycolumn, value);
-            } catch (NumberFormatException e) {
-              error("Número fuera de rango: " + yytext());
-              addToken(yytext(), "ERROR", yyline, yycolumn);
-              return new Symbol(sym.ERROR, yyline, yycolumn, "Número fuera de rango: " + yytext());
+          case 33: break;
+          case 8:
+            { int value = decodificarEntero();
+                               if (value < 0) {
+                                   addToken(BufferTokens.ERROR_NUMERO, sym.ERROR);
+                                   return new Symbol(sym.ERROR, yyline, yycolumn, error(Diagnostico.NUMERO_FUERA_DE_RANGO));
+                               }
+                               addToken(BufferTokens.NUMERO, sym.NUMERO); 
+                               return new Symbol(sym.NUMERO, yyline, yycolumn, entero(value));
             }
-          }
           // fall through
-          case 34:
-            break;
-          case 9: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.PUNTO_COMA, yyline, yycolumn, yytext());
-          }
+          case 34: break;
+          case 9:
+            { addToken(BufferTokens.DELIMITADOR, sym.PUNTO_COMA); 
+                               return new Symbol(sym.PUNTO_COMA, yyline, yycolumn, ";");
+            }
           // fall through
-          case 35:
-            break;
-          case 10: {
-            addToken(yytext(), "OPERADOR", yyline, yycolumn);
-            return new Symbol(sym.IGUAL, yyline, yycolumn, yytext());
-          }
+          case 35: break;
+          case 10:
+            { addToken(BufferTokens.OPERADOR, sym.IGUAL); 
+                               return new Symbol(sym.IGUAL, yyline, yycolumn, "=");
+            }
           // fall through
-          case 36:
-            break;
-          case 11: {
-            addToken(yytext(), "IDENTIFICADOR", yyline, yycolumn);
-            return new Symbol(sym.IDENTIFICADOR, yyline, yycolumn, yytext());
-          }
+          case 36: break;
+          case 11:
+            { addToken(BufferTokens.IDENTIFICADOR, sym.IDENTIFICADOR); 
+                               return new Symbol(sym.IDENTIFICADOR, yyline, yycolumn, nombres.internar(zzBuffer, zzStartRead, yylength()));
+            }
           // fall through
-          case 37:
-            break;
-          case 12: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.LLAVE_A, yyline, yycolumn, yytext());
-          }
+          case 37: break;
+          case 12:
+            { addToken(BufferTokens.DELIMITADOR, sym.LLAVE_A); 
+                               return new Symbol(sym.LLAVE_A, yyline, yycolumn, "{");
+            }
           // fall through
-          case 38:
-            break;
-          case 13: {
-            addToken(yytext(), "DELIMITADOR", yyline, yycolumn);
-            return new Symbol(sym.LLAVE_C, yyline, yycolumn, yytext());
-          }
+          case 38: break;
+          case 13:
+            { addToken(BufferTokens.DELIMITADOR, sym.LLAVE_C); 
+                               return new Symbol(sym.LLAVE_C, yyline, yycolumn, "}");
+            }
           // fall through
-          case 39:
-            break;
-          case 14: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            error("Símbolo inesperado después de punto: " + yytext());
-            addToken(yytext(), "ERROR", yyline, yycolumn);
-            return new Symbol(sym.ERROR, yyline, yycolumn, "Símbolo inesperado después de punto: " + yytext());
-          }
+          case 39: break;
+          case 14:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.ERROR_DESPUES_PUNTO, sym.ERROR);
+                               return new Symbol(sym.ERROR, yyline, yycolumn, error(Diagnostico.SIMBOLO_DESPUES_PUNTO));
+            }
           // fall through
-          case 40:
-            break;
-          case 15: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "DESCONOCIDO", yyline, yycolumn);
-            return new Symbol(sym.ERROR, yyline, yycolumn, "Método o propiedad desconocida: " + yytext());
-          }
+          case 40: break;
+          case 15:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.DESCONOCIDO, sym.ERROR); 
+                               return new Symbol(sym.ERROR, yyline, yycolumn, error(Diagnostico.METODO_DESCONOCIDO));
+            }
           // fall through
-          case 41:
-            break;
-          case 16: {
-            try {
-              float value = Float.parseFloat(yytext());
-              addToken(yytext(), "NUMERO", yyline, yycolumn);
-              return new Symbol(sym.NUMERO, yyline, yycolumn, Math.round(value));
-            } catch (NumberFormatException e) {
-              error("Número flotante inválido: " + yytext());
-              addToken(yytext(), "ERROR", yyline, yycolumn);
-              return new Symbol(sym.ERROR, yyline, yycolumn, "Número flotante inválido: " + yytext());
+          case 41: break;
+          case 16:
+            { addToken(BufferTokens.NUMERO, sym.NUMERO); 
+                               return new Symbol(sym.NUMERO, yyline, yycolumn, entero(decodificarFlotante()));
             }
-          }
           // fall through
-          case 42:
-            break;
-          case 17: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "PROPIEDAD", yyline, yycolumn);
-            return new Symbol(sym.BASE, yyline, yycolumn, yytext());
-          }
+          case 42: break;
+          case 17:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.PROPIEDAD, sym.BASE); 
+                               return new Symbol(sym.BASE, yyline, yycolumn, "base");
+            }
           // fall through
-          case 43:
-            break;
-          case 18: {
-            addToken(yytext(), "PALABRA_RESERVADA", yyline, yycolumn);
-            return new Symbol(sym.ROBOT, yyline, yycolumn, yytext());
-          }
+          case 43: break;
+          case 18:
+            { addToken(BufferTokens.PALABRA_RESERVADA, sym.ROBOT); 
+                               return new Symbol(sym.ROBOT, yyline, yycolumn, "Robot");
+            }
           // fall through
-          case 44:
-            break;
-          case 19: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "PROPIEDAD", yyline, yycolumn);
-            return new Symbol(sym.GARRA, yyline, yycolumn, yytext());
-          }
+          case 44: break;
+          case 19:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.PROPIEDAD, sym.GARRA); 
+                               return new Symbol(sym.GARRA, yyline, yycolumn, "garra");
+            }
           // fall through
-          case 45:
-            break;
-          case 20: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "PROPIEDAD", yyline, yycolumn);
-            return new Symbol(sym.CUERPO, yyline, yycolumn, yytext());
-          }
+          case 45: break;
+          case 20:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.PROPIEDAD, sym.CUERPO); 
+                               return new Symbol(sym.CUERPO, yyline, yycolumn, "cuerpo");
+            }
           // fall through
-          case 46:
-            break;
-          case 21: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "METODO", yyline, yycolumn);
-            return new Symbol(sym.DETENER, yyline, yycolumn, yytext());
-          }
+          case 46: break;
+          case 21:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.METODO, sym.DETENER); 
+                               return new Symbol(sym.DETENER, yyline, yycolumn, "detener");
+            }
           // fall through
-          case 47:
-            break;
-          case 22: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "METODO", yyline, yycolumn);
-            return new Symbol(sym.INICIAR, yyline, yycolumn, yytext());
-          }
+          case 47: break;
+          case 22:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.METODO, sym.INICIAR); 
+                               return new Symbol(sym.INICIAR, yyline, yycolumn, "iniciar");
+            }
           // fall through
-          case 48:
-            break;
-          case 23: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "METODO", yyline, yycolumn);
-            return new Symbol(sym.REPETIR, yyline, yycolumn, yytext());
-          }
+          case 48: break;
+          case 23:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.METODO, sym.REPETIR); 
+                               return new Symbol(sym.REPETIR, yyline, yycolumn, "repetir");
+            }
           // fall through
-          case 49:
-            break;
-          case 24: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "PROPIEDAD", yyline, yycolumn);
-            return new Symbol(sym.VELOCIDAD, yyline, yycolumn, yytext());
-          }
+          case 49: break;
+          case 24:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.PROPIEDAD, sym.VELOCIDAD); 
+                               return new Symbol(sym.VELOCIDAD, yyline, yycolumn, "velocidad");
+            }
           // fall through
-          case 50:
-            break;
-          case 25: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "METODO", yyline, yycolumn);
-            return new Symbol(sym.ABRIR_GARRA, yyline, yycolumn, yytext());
-          }
+          case 50: break;
+          case 25:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.METODO, sym.ABRIR_GARRA); 
+                               return new Symbol(sym.ABRIR_GARRA, yyline, yycolumn, "abrirGarra");
+            }
           // fall through
-          case 51:
-            break;
-          case 26: {
-            yybegin(YYINITIAL);
-            despuesDePunto = false;
-            addToken(yytext(), "METODO", yyline, yycolumn);
-            return new Symbol(sym.CERRAR_GARRA, yyline, yycolumn, yytext());
-          }
+          case 51: break;
+          case 26:
+            { yybegin(YYINITIAL);
+                               despuesDePunto = false;
+                               addToken(BufferTokens.METODO, sym.CERRAR_GARRA); 
+                               return new Symbol(sym.CERRAR_GARRA, yyline, yycolumn, "cerrarGarra");
+            }
           // fall through
-          case 52:
-            break;
+          case 52: break;
           default:
             zzScanError(ZZ_NO_MATCH);
         }
@@ -1025,4 +1098,5 @@ public class Lexer implements java_cup.runtime.Scanner {
     }
   }
 
+
 }